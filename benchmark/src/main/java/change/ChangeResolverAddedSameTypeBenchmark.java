@@ -54,4 +54,20 @@ public class ChangeResolverAddedSameTypeBenchmark {
                 .resolve(original, incoming);
     }
 
+    @Benchmark
+    public long added_only_same_type() {
+        return ChangeResolver.<Pair<Integer, String>, Integer>ofSameType(Pair::x)
+                .using(ChangeResolver.Strategy.HASH)
+                .added(original, incoming)
+                .count();
+    }
+
+    @Benchmark
+    public long added_only_merged_same_type() {
+        return ChangeResolver.<Pair<Integer, String>, Integer>ofSameType(Pair::x)
+                .using(ChangeResolver.Strategy.MERGE)
+                .added(original, incoming)
+                .count();
+    }
+
 }
@@ -54,4 +54,20 @@ public class ChangeResolverRemovedSameTypeBenchmark {
                 .resolve(original, incoming);
     }
 
+    @Benchmark
+    public long removed_only_same_type() {
+        return ChangeResolver.<Pair<Integer, String>, Integer>ofSameType(Pair::x)
+                .using(ChangeResolver.Strategy.HASH)
+                .removed(original, incoming)
+                .count();
+    }
+
+    @Benchmark
+    public long removed_only_merged_same_type() {
+        return ChangeResolver.<Pair<Integer, String>, Integer>ofSameType(Pair::x)
+                .using(ChangeResolver.Strategy.MERGE)
+                .removed(original, incoming)
+                .count();
+    }
+
 }
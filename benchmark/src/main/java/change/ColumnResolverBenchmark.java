@@ -0,0 +1,80 @@
+package change;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, warmups = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class ColumnResolverBenchmark {
+
+    public static void main(String[] args) throws RunnerException {
+
+        Options options = new OptionsBuilder()
+                .include(ColumnResolverBenchmark.class.getSimpleName())
+                .forks(1)
+                .build();
+
+        new Runner(options).run();
+    }
+
+    @Param({"10000000"})
+    private int N;
+
+    /**
+     * {@code interleaved}: multiples of 5 and 7, so runs of unpaired identifiers are at most about 2 long;
+     * {@code runs}: alternating blocks of 1024 identifiers present on one side only.
+     */
+    @Param({"interleaved", "runs"})
+    private String layout;
+
+    private long[] original;
+
+    private long[] incoming;
+
+    @Setup
+    public void setup(){
+        if (layout.equals("runs")) {
+            this.original = LongStream.range(0, N)
+                    .filter(n -> (n / 1024) % 3 != 1)
+                    .toArray();
+
+            this.incoming = LongStream.range(0, N)
+                    .filter(n -> (n / 1024) % 3 != 2)
+                    .toArray();
+        } else {
+            this.original = LongStream.range(0, N)
+                    .filter(n -> n % 5 == 0)
+                    .toArray();
+
+            this.incoming = LongStream.range(0, N)
+                    .filter(n -> n % 7 == 0)
+                    .toArray();
+        }
+    }
+
+
+
+    @Benchmark
+    public ColumnChanges resolve_columns() {
+        return ColumnResolver.resolve(original, incoming);
+    }
+
+    @Benchmark
+    public ColumnChanges merge_columns_scalar() {
+        return ColumnResolver.merge(original, incoming);
+    }
+
+    @Benchmark
+    public ColumnChanges merge_columns_vector() {
+        return VectorColumnResolver.merge(original, incoming);
+    }
+
+}
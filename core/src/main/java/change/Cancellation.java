@@ -0,0 +1,98 @@
+package change;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CancellationException;
+
+/**
+ * A token checked cooperatively by a resolution, which stops once the token is cancelled or its deadline passes.
+ */
+public final class Cancellation {
+
+    /**
+     * The number of values between checks of a {@code Cancellation} while resolving.
+     */
+    static final int CHECK_INTERVAL = 1024;
+
+    private static final Cancellation NONE = new Cancellation(Long.MAX_VALUE, false);
+
+    /**
+     * The longest timeout {@link System#nanoTime()} can measure; a longer timeout never elapses.
+     */
+    private static final Duration UNBOUNDED = Duration.ofNanos(Long.MAX_VALUE);
+
+    /**
+     * @return A {@code Cancellation} that is never cancelled.
+     */
+    public static Cancellation none() {
+        return NONE;
+    }
+
+    /**
+     * @return A {@code Cancellation} cancelled only by {@link #cancel()}.
+     */
+    public static Cancellation token() {
+        return new Cancellation(Long.MAX_VALUE, false);
+    }
+
+    /**
+     * @param timeout The time allowed from now; a negative {@code timeout} has already elapsed, and one of about 292
+     *                years or more never elapses.
+     * @return A {@code Cancellation} cancelled once the {@code timeout} elapses, or by {@link #cancel()}.
+     */
+    public static Cancellation within(final Duration timeout) {
+        if (timeout.compareTo(UNBOUNDED) >= 0) {
+            return token();
+        }
+
+        long nanos = timeout.isNegative() ? 0 : timeout.toNanos();
+
+        //  the deadline may wrap around, as it is only compared by the difference from System.nanoTime()
+        return new Cancellation(System.nanoTime() + nanos, true);
+    }
+
+    /**
+     * @param deadline The time by which a resolution must stop.
+     * @return A {@code Cancellation} cancelled once the {@code deadline} passes, or by {@link #cancel()}.
+     */
+    public static Cancellation until(final Instant deadline) {
+        return within(Duration.between(Instant.now(), deadline));
+    }
+
+    private final long deadline;
+
+    private final boolean timed;
+
+    private volatile boolean cancelled;
+
+    private Cancellation(final long deadline, final boolean timed) {
+        this.deadline = deadline;
+        this.timed = timed;
+    }
+
+    /**
+     * Cancels every resolution checking this {@code Cancellation}.
+     */
+    public void cancel() {
+        if (this == NONE) {
+            throw new UnsupportedOperationException("Cancellation.none() cannot be cancelled.");
+        }
+        cancelled = true;
+    }
+
+    /**
+     * @return {@code true} if cancelled, or the deadline has passed.
+     */
+    public boolean isCancelled() {
+        return cancelled || (timed && System.nanoTime() - deadline >= 0);
+    }
+
+    /**
+     * @throws CancellationException If cancelled, or the deadline has passed.
+     */
+    void check() {
+        if (isCancelled()) {
+            throw new CancellationException("The resolution was cancelled.");
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package change;
+
+/**
+ * Handles each change resolved between left and right values, e.g. through {@link Changes#forEach(ChangeHandler)}.
+ *
+ * @param <L> The type of the left values.
+ * @param <R> The type of the right values.
+ */
+public interface ChangeHandler<L, R> {
+
+    /**
+     * @param right A right value without a paired left value.
+     */
+    void added(R right);
+
+    /**
+     * @param left A left value without a paired right value.
+     */
+    void removed(L left);
+
+    /**
+     * @param left  A left value.
+     * @param right The altered right value paired with {@code left}.
+     */
+    void altered(L left, R right);
+
+    /**
+     * Handles a left value replaced by a right value under a new identifier, as a removal and an addition unless
+     * overridden.
+     *
+     * @param left  A left value without a paired right value.
+     * @param right A right value without a paired left value, with the same fingerprint as {@code left}.
+     * @see Changes#detectRekeyed(java.util.function.Function, java.util.function.Function)
+     */
+    default void rekeyed(final L left, final R right) {
+        removed(left);
+        added(right);
+    }
+}
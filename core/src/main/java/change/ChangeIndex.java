@@ -0,0 +1,100 @@
+package change;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * An immutable index of {@code LEFT} values by identifier, created by {@link ChangeResolver#index(Collection)}, that
+ * resolves the changes of any number of {@link java.util.Collection}s of {@code RIGHT} values; so the {@code LEFT}
+ * values are indexed once rather than for each resolution.  Resolutions may run concurrently.
+ *
+ * @param <LEFT>  The type for the left values.
+ * @param <RIGHT> The type for the right values.
+ * @param <ID>    The type of the identifier.
+ */
+public final class ChangeIndex<LEFT, RIGHT, ID> {
+
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private final Map<Object, LEFT> lefts;
+
+    private final Function<RIGHT, ID> rightToIdentifier;
+
+    ChangeIndex(
+            final Collection<LEFT> left,
+            final Function<LEFT, ID> leftToIdentifier,
+            final Function<RIGHT, ID> rightToIdentifier
+    ) {
+        Function<LEFT, Object> toKey = value -> IdentifierKey.of(leftToIdentifier.apply(value));
+
+        this.lefts = left.size() < PARALLEL_THRESHOLD
+                ? left.stream().collect(Collectors.toMap(toKey, Function.identity(), ChangeIndex::duplicate, HashMap::new))
+                : left.parallelStream().collect(Collectors.toConcurrentMap(toKey, Function.identity(), ChangeIndex::duplicate));
+        this.rightToIdentifier = rightToIdentifier;
+    }
+
+    private static <V> V duplicate(final V value, final V other) {
+        throw new IllegalStateException("Duplicate key for " + value + " and " + other);
+    }
+
+    /**
+     * @return The number of indexed {@code LEFT} values.
+     */
+    public int size() {
+        return lefts.size();
+    }
+
+    /**
+     * @param right A {@link java.util.Collection} of {@code RIGHT} values.
+     * @return The {@link Changes} between the indexed {@code LEFT} values and {@code right}.
+     */
+    public Changes<LEFT, RIGHT> resolve(final Collection<RIGHT> right) {
+        Set<Object> rightIdentifiers = HashSet.newHashSet(right.size());
+
+        List<Match<LEFT, RIGHT>> matches = new ArrayList<>(right.size());
+        int paired = 0;
+
+        for (RIGHT value : right) {
+            ID identifier = rightToIdentifier.apply(value);
+
+            if (!rightIdentifiers.add(IdentifierKey.of(identifier))) {
+                throw new IllegalStateException("Duplicate key " + identifier);
+            }
+
+            LEFT left = lefts.get(IdentifierKey.of(identifier));
+            if (left != null) {
+                paired++;
+            }
+            matches.add(Match.of(left, value));
+        }
+
+        if (paired < lefts.size()) {
+            lefts.forEach((identifier, left) -> {
+                if (!rightIdentifiers.contains(identifier)) {
+                    matches.add(new Match.OnlyLeft<>(left));
+                }
+            });
+        }
+
+        return new Changes<>(matches);
+    }
+
+    /**
+     * Resolves the changes of each of the {@code rights} in parallel.
+     *
+     * @param rights The {@link java.util.Collection}s of {@code RIGHT} values.
+     * @return The {@link Changes} of each of the {@code rights}, in the same order.
+     */
+    public List<Changes<LEFT, RIGHT>> resolveAll(final List<? extends Collection<RIGHT>> rights) {
+        return rights.parallelStream()
+                .map(this::resolve)
+                .toList();
+    }
+}
@@ -0,0 +1,65 @@
+package change;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes values into, and decodes values from, the records of a change log.
+ *
+ * @param <T> The type of the values.
+ * @see ChangeLogWriter
+ * @see ChangeLogReader
+ */
+public interface ChangeLogCodec<T> {
+
+    /**
+     * @return A {@code ChangeLogCodec} of {@link String}s as UTF-8.
+     */
+    static ChangeLogCodec<String> strings() {
+        return new ChangeLogCodec<>() {
+            @Override
+            public void encode(final String value, final ByteBuffer buffer) {
+                buffer.put(value.getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public String decode(final ByteBuffer buffer) {
+                return StandardCharsets.UTF_8.decode(buffer).toString();
+            }
+        };
+    }
+
+    /**
+     * @return A {@code ChangeLogCodec} of {@link Long}s as 8 bytes.
+     */
+    static ChangeLogCodec<Long> longs() {
+        return new ChangeLogCodec<>() {
+            @Override
+            public void encode(final Long value, final ByteBuffer buffer) {
+                buffer.putLong(value);
+            }
+
+            @Override
+            public Long decode(final ByteBuffer buffer) {
+                return buffer.getLong();
+            }
+        };
+    }
+
+    /**
+     * Encodes the {@code value} at the position of the {@code buffer}, advancing it.  A
+     * {@link java.nio.BufferOverflowException} is expected when the {@code buffer} has too little remaining.
+     *
+     * @param value  The value to encode.
+     * @param buffer The {@link ByteBuffer} to encode into.
+     */
+    void encode(T value, ByteBuffer buffer);
+
+    /**
+     * Decodes a value from the whole of the {@code buffer}, which is a view of the log rather than a copy.
+     *
+     * @param buffer The {@link ByteBuffer} holding exactly one encoded value.
+     * @return The decoded value.
+     */
+    T decode(ByteBuffer buffer);
+}
@@ -0,0 +1,119 @@
+package change;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Replays the changes of a log written by a {@link ChangeLogWriter}.  Segments are memory-mapped and each value is
+ * decoded from a view of its bytes within the segment, without copying them.
+ *
+ * @param <L> The type of the left values.
+ * @param <R> The type of the right values.
+ */
+public final class ChangeLogReader<L, R> {
+
+    /**
+     * Creates a {@code ChangeLogReader} of the log in {@code directory}.
+     *
+     * @param directory  The directory of the log.
+     * @param leftCodec  The {@link ChangeLogCodec} of left values.
+     * @param rightCodec The {@link ChangeLogCodec} of right values.
+     * @param <L>        The type of the left values.
+     * @param <R>        The type of the right values.
+     * @return A {@link ChangeLogReader} of the log.
+     */
+    public static <L, R> ChangeLogReader<L, R> of(
+            final Path directory,
+            final ChangeLogCodec<L> leftCodec,
+            final ChangeLogCodec<R> rightCodec
+    ) {
+        return new ChangeLogReader<>(directory, leftCodec, rightCodec);
+    }
+
+    private final Path directory;
+
+    private final ChangeLogCodec<L> leftCodec;
+    private final ChangeLogCodec<R> rightCodec;
+
+    private ChangeLogReader(final Path directory, final ChangeLogCodec<L> leftCodec, final ChangeLogCodec<R> rightCodec) {
+        this.directory = directory;
+        this.leftCodec = leftCodec;
+        this.rightCodec = rightCodec;
+    }
+
+    /**
+     * Passes every change in the log, in the order appended, to the {@code handler}.
+     *
+     * @param handler The {@link ChangeHandler} of each change.
+     * @return The number of changes replayed.
+     * @throws UncheckedIOException If a segment cannot be read.
+     * @throws IllegalStateException If a segment is not part of a change log.
+     */
+    public long replay(final ChangeHandler<L, R> handler) {
+        long replayed = 0;
+
+        try {
+            for (Path file : ChangeLogWriter.segments(directory)) {
+                replayed += replay(file, handler);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return replayed;
+    }
+
+    private long replay(final Path file, final ChangeHandler<L, R> handler) throws IOException {
+        MappedByteBuffer segment;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (segment.remaining() < ChangeLogWriter.HEADER
+                || segment.getInt() != ChangeLogWriter.MAGIC
+                || segment.getInt() != ChangeLogWriter.VERSION) {
+            throw new IllegalStateException("Not a change log segment: " + file);
+        }
+
+        long replayed = 0;
+
+        while (segment.hasRemaining()) {
+            byte kind = segment.get();
+
+            switch (kind) {
+                case ChangeLogWriter.END -> {
+                    return replayed;
+                }
+                case ChangeLogWriter.ADDED -> handler.added(decode(segment, rightCodec));
+                case ChangeLogWriter.REMOVED -> handler.removed(decode(segment, leftCodec));
+                case ChangeLogWriter.ALTERED -> {
+                    L left = decode(segment, leftCodec);
+                    handler.altered(left, decode(segment, rightCodec));
+                }
+                case ChangeLogWriter.REKEYED -> {
+                    L left = decode(segment, leftCodec);
+                    handler.rekeyed(left, decode(segment, rightCodec));
+                }
+                default -> throw new IllegalStateException(
+                        "Unknown record kind " + kind + " at " + (segment.position() - 1) + " of " + file);
+            }
+            replayed++;
+        }
+
+        return replayed;
+    }
+
+    private <T> T decode(final ByteBuffer segment, final ChangeLogCodec<T> codec) {
+        int length = segment.getInt();
+
+        T value = codec.decode(segment.slice(segment.position(), length));
+        segment.position(segment.position() + length);
+
+        return value;
+    }
+}
@@ -0,0 +1,291 @@
+package change;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Appends changes to a log of memory-mapped segment files in a directory.  Each segment is allocated at its full size
+ * when created and holds a header followed by records of one change each:
+ * <pre>
+ *     segment: magic (int) version (int) record* 0 (byte)
+ *     record:  kind (byte) [length (int) left value] [length (int) right value]
+ * </pre>
+ * A record's kind is written after its values, so a record is never read before it is complete.  When a record does not
+ * fit in the remainder of a segment, a new segment is created.  A {@code ChangeLogWriter} is not thread-safe.
+ *
+ * @param <L> The type of the left values.
+ * @param <R> The type of the right values.
+ * @see ChangeLogReader
+ */
+public final class ChangeLogWriter<L, R> implements ChangeHandler<L, R>, Closeable {
+
+    static final int MAGIC = 0x43484C47;
+
+    static final int VERSION = 1;
+
+    static final int HEADER = 2 * Integer.BYTES;
+
+    static final byte END = 0;
+
+    static final byte ADDED = 1;
+
+    static final byte REMOVED = 2;
+
+    static final byte ALTERED = 3;
+
+    static final byte REKEYED = 4;
+
+    private static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    static List<Path> segments(final Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(file -> file.getFileName().toString().matches("\\d{20}\\.log"))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * Opens a {@code ChangeLogWriter} of 64 MiB segments, forcing them to storage only when rolled, forced or closed.
+     *
+     * @param directory  The directory of the log, which is created if absent.
+     * @param leftCodec  The {@link ChangeLogCodec} of left values.
+     * @param rightCodec The {@link ChangeLogCodec} of right values.
+     * @param <L>        The type of the left values.
+     * @param <R>        The type of the right values.
+     * @return A {@link ChangeLogWriter} appending to a new segment.
+     * @throws UncheckedIOException If the segment cannot be created.
+     */
+    public static <L, R> ChangeLogWriter<L, R> open(
+            final Path directory,
+            final ChangeLogCodec<L> leftCodec,
+            final ChangeLogCodec<R> rightCodec
+    ) {
+        return open(directory, leftCodec, rightCodec, DEFAULT_SEGMENT_SIZE, 0);
+    }
+
+    /**
+     * Opens a {@code ChangeLogWriter}.
+     *
+     * @param directory   The directory of the log, which is created if absent.
+     * @param leftCodec   The {@link ChangeLogCodec} of left values.
+     * @param rightCodec  The {@link ChangeLogCodec} of right values.
+     * @param segmentSize The size, in bytes, of each segment.
+     * @param forceEvery  The number of records after which the segment is forced to storage, or {@code 0} to only force
+     *                    segments when rolled, forced or closed.
+     * @param <L>         The type of the left values.
+     * @param <R>         The type of the right values.
+     * @return A {@link ChangeLogWriter} appending to a new segment.
+     * @throws UncheckedIOException If the segment cannot be created.
+     */
+    public static <L, R> ChangeLogWriter<L, R> open(
+            final Path directory,
+            final ChangeLogCodec<L> leftCodec,
+            final ChangeLogCodec<R> rightCodec,
+            final int segmentSize,
+            final int forceEvery
+    ) {
+        if (segmentSize <= HEADER + 1) {
+            throw new IllegalArgumentException("The segment size must exceed " + (HEADER + 1) + ": " + segmentSize);
+        } else if (forceEvery < 0) {
+            throw new IllegalArgumentException("The records between forcing must not be negative: " + forceEvery);
+        }
+
+        try {
+            Files.createDirectories(directory);
+
+            List<Path> segments = segments(directory);
+            long sequence = segments.isEmpty()
+                    ? 0
+                    : Long.parseLong(segments.getLast().getFileName().toString().substring(0, 20)) + 1;
+
+            return new ChangeLogWriter<>(directory, leftCodec, rightCodec, segmentSize, forceEvery, sequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private final Path directory;
+
+    private final ChangeLogCodec<L> leftCodec;
+    private final ChangeLogCodec<R> rightCodec;
+
+    private final int segmentSize;
+    private final int forceEvery;
+
+    private long sequence;
+
+    private MappedByteBuffer segment;
+
+    private int unforced;
+
+    private ChangeLogWriter(
+            final Path directory,
+            final ChangeLogCodec<L> leftCodec,
+            final ChangeLogCodec<R> rightCodec,
+            final int segmentSize,
+            final int forceEvery,
+            final long sequence
+    ) throws IOException {
+        this.directory = directory;
+        this.leftCodec = leftCodec;
+        this.rightCodec = rightCodec;
+        this.segmentSize = segmentSize;
+        this.forceEvery = forceEvery;
+        this.sequence = sequence;
+        this.segment = allocate();
+    }
+
+    /**
+     * Appends every change of {@code changes}.
+     *
+     * @param changes The {@link Changes} to append.
+     */
+    public void append(final Changes<L, R> changes) {
+        changes.forEach(this);
+    }
+
+    @Override
+    public void added(final R right) {
+        append(ADDED, null, right);
+    }
+
+    @Override
+    public void removed(final L left) {
+        append(REMOVED, left, null);
+    }
+
+    @Override
+    public void altered(final L left, final R right) {
+        append(ALTERED, left, right);
+    }
+
+    @Override
+    public void rekeyed(final L left, final R right) {
+        append(REKEYED, left, right);
+    }
+
+    /**
+     * Forces the records appended to the current segment to storage.
+     */
+    public void force() {
+        open().force();
+        unforced = 0;
+    }
+
+    @Override
+    public void close() {
+        if (segment != null) {
+            force();
+            segment = null;
+        }
+    }
+
+    private void append(final byte kind, final L left, final R right) {
+        MappedByteBuffer current = open();
+        int start = current.position();
+
+        try {
+            encode(current, left, right);
+        } catch (BufferOverflowException e) {
+            discard(current, start);
+            if (start == HEADER) {
+                throw new IllegalArgumentException("A record exceeds the segment size of " + segmentSize + " bytes.");
+            }
+
+            roll();
+            append(kind, left, right);
+            return;
+        } catch (RuntimeException e) {
+            discard(current, start);
+            throw e;
+        }
+
+        current.put(start, kind);
+
+        if (forceEvery > 0 && ++unforced >= forceEvery) {
+            force();
+        }
+    }
+
+    private void encode(final MappedByteBuffer buffer, final L left, final R right) {
+        //  reserve the kind, leaving the end marker in place until the record is complete
+        buffer.position(buffer.position() + 1);
+
+        if (left != null) {
+            encode(buffer, leftCodec, left);
+        }
+        if (right != null) {
+            encode(buffer, rightCodec, right);
+        }
+
+        //  the end marker must still fit after the record
+        if (!buffer.hasRemaining()) {
+            throw new BufferOverflowException();
+        }
+    }
+
+    /**
+     * Zeroes a partially encoded record, so the end marker at {@code start} is followed by zeroes as in a new segment,
+     * and the next record is appended in its place.
+     */
+    private static void discard(final MappedByteBuffer buffer, final int start) {
+        for (int position = start; position < buffer.position(); position++) {
+            buffer.put(position, END);
+        }
+        buffer.position(start);
+    }
+
+    private <T> void encode(final MappedByteBuffer buffer, final ChangeLogCodec<T> codec, final T value) {
+        int length = buffer.position();
+        buffer.putInt(0);
+
+        codec.encode(value, buffer);
+
+        buffer.putInt(length, buffer.position() - length - Integer.BYTES);
+    }
+
+    private MappedByteBuffer open() {
+        if (segment == null) {
+            throw new IllegalStateException("The change log is closed.");
+        }
+        return segment;
+    }
+
+    private void roll() {
+        force();
+        sequence++;
+
+        try {
+            segment = allocate();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private MappedByteBuffer allocate() throws IOException {
+        Path file = directory.resolve("%020d.log".formatted(sequence));
+
+        try (FileChannel channel = FileChannel.open(
+                file,
+                StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+        )) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            mapped.putInt(MAGIC);
+            mapped.putInt(VERSION);
+            return mapped;
+        }
+    }
+}
@@ -1,7 +1,25 @@
 package change;
 
+import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
 
 /**
  * Resolves the changes (additions, alterations, deletions) between two {@link java.util.Collection}s containing values
@@ -15,6 +33,110 @@ import java.util.function.Function;
  */
 public class ChangeResolver<LEFT, RIGHT, ID> {
 
+    /**
+     * The identity of the values of a {@link #simple()} resolver; recognised by {@link Strategy} selection.
+     */
+    private static final Function<Object, Object> SELF = value -> value;
+
+    /**
+     * The ways a {@code ChangeResolver} can pair values by their identifiers.  Unless a strategy is chosen with
+     * {@link #using(Strategy)}, one is selected for each resolution from traits of the input collections.
+     */
+    public enum Strategy {
+
+        /**
+         * Scans the left identifiers for each right identifier; selected when both collections are tiny.
+         */
+        LINEAR {
+            @Override
+            <L, R, I> MatchResolver<L, R, I> resolver(final Function<L, I> leftToIdentifier, final Function<R, I> rightToIdentifier) {
+                return new LinearMatchResolver<>(leftToIdentifier, rightToIdentifier);
+            }
+        },
+
+        /**
+         * Walks both collections together without indexing either, pairing identifiers by
+         * {@link Comparable#compareTo(Object)} rather than {@link Object#equals(Object)}; selected when both collections
+         * are naturally ordered {@link java.util.SortedSet}s of the self identifying values of a {@link #simple()}
+         * resolver, of a type whose natural ordering is consistent with equals ({@link String}, boxed integral
+         * types, {@link Boolean}, {@link java.math.BigInteger} or {@link java.util.UUID}).  Other collections iterating
+         * in ascending order of their {@link Comparable} identifiers can be merged by choosing this strategy with
+         * {@link #using(Strategy)}.
+         */
+        MERGE {
+            @Override
+            <L, R, I> MatchResolver<L, R, I> resolver(final Function<L, I> leftToIdentifier, final Function<R, I> rightToIdentifier) {
+                return new MergeMatchResolver<>(leftToIdentifier, rightToIdentifier);
+            }
+        },
+
+        /**
+         * Indexes the left values in a {@link java.util.Map} and probes it with each right value; selected otherwise.
+         */
+        HASH {
+            @Override
+            <L, R, I> MatchResolver<L, R, I> resolver(final Function<L, I> leftToIdentifier, final Function<R, I> rightToIdentifier) {
+                return new DefaultMatchResolver<>(leftToIdentifier, rightToIdentifier);
+            }
+        },
+
+        /**
+         * Indexes and probes a concurrent {@link java.util.Map} in parallel; selected when the collections hold at least
+         * 2<sup>20</sup> values together and every change is being resolved.
+         */
+        PARALLEL {
+            @Override
+            <L, R, I> MatchResolver<L, R, I> resolver(final Function<L, I> leftToIdentifier, final Function<R, I> rightToIdentifier) {
+                return new ParallelMatchResolver<>(leftToIdentifier, rightToIdentifier);
+            }
+        };
+
+        private static final int LINEAR_THRESHOLD = 8;
+
+        private static final int PARALLEL_THRESHOLD = 1 << 20;
+
+        /**
+         * Identifier types whose natural ordering is consistent with equals, so merging pairs the same values as hashing.
+         */
+        private static final Set<Class<?>> CONSISTENT_WITH_EQUALS = Set.of(
+                String.class, Long.class, Integer.class, Short.class, Byte.class, Character.class, Boolean.class,
+                BigInteger.class, UUID.class
+        );
+
+        static <L, R, I> Strategy select(
+                final Collection<L> lefts,
+                final Collection<R> rights,
+                final Function<L, I> leftToIdentifier,
+                final Function<R, I> rightToIdentifier,
+                final boolean exhaustive
+        ) {
+            if (lefts.size() <= LINEAR_THRESHOLD && rights.size() <= LINEAR_THRESHOLD) {
+                return LINEAR;
+            } else if (ascending(lefts, leftToIdentifier) && ascending(rights, rightToIdentifier)) {
+                return MERGE;
+            } else if (exhaustive
+                    && (long) lefts.size() + rights.size() >= PARALLEL_THRESHOLD
+                    && ForkJoinPool.getCommonPoolParallelism() > 1) {
+                return PARALLEL;
+            }
+            return HASH;
+        }
+
+        /**
+         * Decides from traits alone, visiting at most the first value: a naturally ordered {@link java.util.SortedSet}
+         * of values that are their own identifiers iterates in ascending order of its identifiers, and a final
+         * identifier type shared by every value determines whether that order agrees with equals.
+         */
+        private static <V, I> boolean ascending(final Collection<V> values, final Function<V, I> toIdentifier) {
+            return toIdentifier == SELF
+                    && values instanceof SortedSet<V> sorted
+                    && sorted.comparator() == null
+                    && (sorted.isEmpty() || CONSISTENT_WITH_EQUALS.contains(sorted.first().getClass()));
+        }
+
+        abstract <L, R, I> MatchResolver<L, R, I> resolver(Function<L, I> leftToIdentifier, Function<R, I> rightToIdentifier);
+    }
+
     /**
      * Creates a {@code ChangeResolver} to resolve changes between two {@link java.util.Collection}s of the same type
      * with self identifying values.
@@ -22,8 +144,9 @@ public class ChangeResolver<LEFT, RIGHT, ID> {
      * @param <X> The type of the values being resolved.
      * @return A simple {@link ChangeResolver} for types of {@code X}.
      */
+    @SuppressWarnings("unchecked")
     public static <X> ChangeResolver<X, X, X> simple() {
-        return ofSameType(Function.identity());
+        return ofSameType((Function<X, X>) SELF);
     }
 
     /**
@@ -36,8 +159,7 @@ public class ChangeResolver<LEFT, RIGHT, ID> {
      * @return A {@link ChangeResolver} for types of {@code V}
      */
     public static <V, I> ChangeResolver<V, V, I> ofSameType(final Function<V, I> toIdentifier) {
-        MatchResolver<V, V, I> resolver = new DefaultMatchResolver<>(toIdentifier, toIdentifier);
-        return new ChangeResolver<>(resolver);
+        return new ChangeResolver<>(null, toIdentifier, toIdentifier, null, strategy -> {});
     }
 
     /**
@@ -56,19 +178,100 @@ public class ChangeResolver<LEFT, RIGHT, ID> {
             final Function<X, I> leftToIdentifier,
             final Function<Y, I> rightToIdentifier
     ) {
-        MatchResolver<X, Y, I> resolver = new DefaultMatchResolver<>(leftToIdentifier, rightToIdentifier);
-        return new ChangeResolver<>(resolver);
+        return new ChangeResolver<>(null, leftToIdentifier, rightToIdentifier, null, strategy -> {});
+    }
+
+    /**
+     * Determines the shard of an {@code identifier} by spreading its {@link Object#hashCode()}; deterministic across
+     * JVMs for identifiers with specified hash codes (e.g. {@link String}s, boxed primitives, {@link java.util.UUID}s).
+     * The hash codes of records are unspecified and may differ between JDKs, and those of enums are identity hash
+     * codes that differ between runs; nodes sharding such identifiers may disagree.  A {@code null} identifier belongs
+     * to shard {@code 0}.
+     *
+     * @param identifier An identifier, or {@code null}.
+     * @param shards     The number of shards.
+     * @return The shard of the {@code identifier}, from {@code 0} to {@code shards - 1}.
+     */
+    public static int shardOf(final Object identifier, final int shards) {
+        if (shards < 1) {
+            throw new IllegalArgumentException("At least one shard is required: " + shards);
+        }
+
+        if (identifier == null) {
+            return 0;
+        }
+
+        int hash = identifier.hashCode();
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+
+        return Math.floorMod(hash, shards);
     }
 
     private final MatchResolver<LEFT, RIGHT, ID> resolver;
 
+    private final Function<LEFT, ID> leftToIdentifier;
+    private final Function<RIGHT, ID> rightToIdentifier;
+
+    private final Strategy strategy;
+    private final Consumer<Strategy> observer;
+
     /**
      * Creates a {@code ChangeResolver} to resolve changes using the {@code resolver}.
      *
      * @param resolver The {@link MatchResolver} used to pair values.
      */
     public ChangeResolver(final MatchResolver<LEFT, RIGHT, ID> resolver) {
+        this(Objects.requireNonNull(resolver, "A resolver is required."), null, null, null, strategy -> {});
+    }
+
+    private ChangeResolver(
+            final MatchResolver<LEFT, RIGHT, ID> resolver,
+            final Function<LEFT, ID> leftToIdentifier,
+            final Function<RIGHT, ID> rightToIdentifier,
+            final Strategy strategy,
+            final Consumer<Strategy> observer
+    ) {
         this.resolver = resolver;
+        this.leftToIdentifier = leftToIdentifier;
+        this.rightToIdentifier = rightToIdentifier;
+        this.strategy = strategy;
+        this.observer = observer;
+    }
+
+    /**
+     * Creates a {@code ChangeResolver} that always resolves changes using the {@code strategy}, rather than selecting
+     * one for each resolution.
+     *
+     * @param strategy The {@link Strategy} to use.
+     * @return A {@link ChangeResolver} using the {@code strategy}.
+     * @throws IllegalStateException If this {@code ChangeResolver} was created with its own {@link MatchResolver}.
+     */
+    public ChangeResolver<LEFT, RIGHT, ID> using(final Strategy strategy) {
+        Objects.requireNonNull(strategy, "A strategy is required.");
+        if (resolver != null) {
+            throw new IllegalStateException("A strategy cannot be used with a provided MatchResolver.");
+        }
+        return new ChangeResolver<>(null, leftToIdentifier, rightToIdentifier, strategy, observer);
+    }
+
+    /**
+     * Creates a {@code ChangeResolver} that reports the {@link Strategy} used by each resolution to the
+     * {@code observer}.
+     *
+     * @param observer A {@link java.util.function.Consumer} of the {@link Strategy} used by each resolution.
+     * @return A {@link ChangeResolver} reporting to the {@code observer}.
+     * @throws IllegalStateException If this {@code ChangeResolver} was created with its own {@link MatchResolver}.
+     */
+    public ChangeResolver<LEFT, RIGHT, ID> observing(final Consumer<Strategy> observer) {
+        Objects.requireNonNull(observer, "An observer is required.");
+        if (resolver != null) {
+            throw new IllegalStateException("A provided MatchResolver has no strategy to observe.");
+        }
+        return new ChangeResolver<>(resolver, leftToIdentifier, rightToIdentifier, strategy, observer);
     }
 
     /**
@@ -77,7 +280,424 @@ public class ChangeResolver<LEFT, RIGHT, ID> {
      * @return The {@link Changes}
      */
     public Changes<LEFT, RIGHT> resolve(final Collection<LEFT> left, final Collection<RIGHT> right) {
-        return new Changes<>(resolver.resolve(left, right).toList());
+        return new Changes<>(resolverFor(left, right, true).resolve(left, right).toList());
+    }
+
+    /**
+     * Indexes the {@code left} values once, to resolve their changes against any number of {@link java.util.Collection}s
+     * of {@code RIGHT} values; large collections are indexed in parallel.
+     *
+     * @param left A {@link java.util.Collection} of {@code LEFT} values.
+     * @return A {@link ChangeIndex} of the {@code left} values.
+     * @throws IllegalStateException If this {@code ChangeResolver} was created with its own {@link MatchResolver}.
+     */
+    public ChangeIndex<LEFT, RIGHT, ID> index(final Collection<LEFT> left) {
+        if (resolver != null) {
+            throw new IllegalStateException("Values cannot be indexed by a provided MatchResolver.");
+        }
+        return new ChangeIndex<>(left, leftToIdentifier, rightToIdentifier);
+    }
+
+    /**
+     * Resolves the changes, checking the {@code cancellation} while indexing and between matches.  Once cancelled,
+     * resolution stops and everything it holds is released.
+     *
+     * @param left         A {@link java.util.Collection} of {@code LEFT} values.
+     * @param right        A {@link java.util.Collection} of {@code RIGHT} values.
+     * @param cancellation The {@link Cancellation} (e.g. a deadline) to check.
+     * @return The {@link Changes}
+     * @throws java.util.concurrent.CancellationException If cancelled before every change is resolved.
+     */
+    public Changes<LEFT, RIGHT> resolve(
+            final Collection<LEFT> left,
+            final Collection<RIGHT> right,
+            final Cancellation cancellation
+    ) {
+        return resolve(left, right, cancellation, false);
+    }
+
+    /**
+     * Resolves the changes, checking the {@code cancellation} while indexing and between matches.  Once cancelled,
+     * resolution stops and the changes resolved until then are returned, marked as not
+     * {@linkplain Changes#isComplete() complete}.  Additions and alterations are resolved as the right values are
+     * probed; removals are only known once every right value has been probed.
+     *
+     * @param left         A {@link java.util.Collection} of {@code LEFT} values.
+     * @param right        A {@link java.util.Collection} of {@code RIGHT} values.
+     * @param cancellation The {@link Cancellation} (e.g. a deadline) to check.
+     * @return The {@link Changes}, complete unless cancelled.
+     */
+    public Changes<LEFT, RIGHT> resolvePartially(
+            final Collection<LEFT> left,
+            final Collection<RIGHT> right,
+            final Cancellation cancellation
+    ) {
+        return resolve(left, right, cancellation, true);
+    }
+
+    private Changes<LEFT, RIGHT> resolve(
+            final Collection<LEFT> left,
+            final Collection<RIGHT> right,
+            final Cancellation cancellation,
+            final boolean partially
+    ) {
+        List<Match<LEFT, RIGHT>> resolved = new ArrayList<>();
+
+        try {
+            Iterator<Match<LEFT, RIGHT>> matches = resolverFor(left, right, false)
+                    .resolve(left, right, cancellation)
+                    .iterator();
+
+            int probed = 0;
+            while (matches.hasNext()) {
+                if (++probed % Cancellation.CHECK_INTERVAL == 0) {
+                    cancellation.check();
+                }
+                resolved.add(matches.next());
+            }
+        } catch (CancellationException e) {
+            if (!partially) {
+                throw e;
+            }
+            return new Changes<>(resolved, false);
+        }
+
+        return new Changes<>(resolved);
+    }
+
+    /**
+     * Resolves the changes of only the values whose identifiers belong to the {@code shard}, as determined by
+     * {@link #shardOf(Object, int)}.  The {@link Changes} of every shard can be combined with
+     * {@link Changes#merge(java.util.Collection)}.
+     *
+     * @param left   A {@link java.util.Collection} of {@code LEFT} values.
+     * @param right  A {@link java.util.Collection} of {@code RIGHT} values.
+     * @param shard  The shard to resolve, from {@code 0} to {@code shards - 1}.
+     * @param shards The number of shards.
+     * @return The {@link Changes} of the {@code shard}.
+     */
+    public Changes<LEFT, RIGHT> resolveShard(
+            final Collection<LEFT> left,
+            final Collection<RIGHT> right,
+            final int shard,
+            final int shards
+    ) {
+        if (shard < 0 || shard >= shards) {
+            throw new IllegalArgumentException("The shard must be from 0 to " + (shards - 1) + ": " + shard);
+        }
+        return resolveShard(left, right, shard, identifier -> shardOf(identifier, shards));
+    }
+
+    /**
+     * Resolves the changes of only the values whose identifiers belong to the {@code shard}, as determined by
+     * {@code toShard} (e.g. by identifier range).  The {@link Changes} of every shard can be combined with
+     * {@link Changes#merge(java.util.Collection)}.
+     *
+     * @param left    A {@link java.util.Collection} of {@code LEFT} values.
+     * @param right   A {@link java.util.Collection} of {@code RIGHT} values.
+     * @param shard   The shard to resolve.
+     * @param toShard A deterministic {@link java.util.function.ToIntFunction} to determine the shard of an identifier.
+     * @return The {@link Changes} of the {@code shard}.
+     * @throws IllegalStateException If this {@code ChangeResolver} was created with its own {@link MatchResolver}.
+     */
+    public Changes<LEFT, RIGHT> resolveShard(
+            final Collection<LEFT> left,
+            final Collection<RIGHT> right,
+            final int shard,
+            final ToIntFunction<? super ID> toShard
+    ) {
+        if (resolver != null) {
+            throw new IllegalStateException("Values cannot be sharded by a provided MatchResolver.");
+        }
+
+        List<LEFT> leftShard = new ArrayList<>();
+        for (LEFT value : left) {
+            if (toShard.applyAsInt(leftToIdentifier.apply(value)) == shard) {
+                leftShard.add(value);
+            }
+        }
+
+        List<RIGHT> rightShard = new ArrayList<>();
+        for (RIGHT value : right) {
+            if (toShard.applyAsInt(rightToIdentifier.apply(value)) == shard) {
+                rightShard.add(value);
+            }
+        }
+
+        return resolve(leftShard, rightShard);
+    }
+
+    /**
+     * Resolves the changes of only the values whose identifiers are from {@code from} (inclusive) to {@code to}
+     * (exclusive), e.g. a single page of a large sorted snapshot.
+     *
+     * @param left  A {@link java.util.NavigableMap} of {@code LEFT} values by their identifiers.
+     * @param right A {@link java.util.NavigableMap} of {@code RIGHT} values by their identifiers, in the same order.
+     * @param from  The lowest identifier of the range.
+     * @param to    The identifier above the range.
+     * @return The {@link Changes} of the range.
+     * @see #resolveRange(NavigableMap, NavigableMap, Object, boolean, Object, boolean)
+     */
+    public Changes<LEFT, RIGHT> resolveRange(
+            final NavigableMap<ID, LEFT> left,
+            final NavigableMap<ID, RIGHT> right,
+            final ID from,
+            final ID to
+    ) {
+        return resolveRange(left, right, from, true, to, false);
+    }
+
+    /**
+     * Resolves the changes of only the values whose identifiers are within a range.  Only the values within the range
+     * are visited, in the order of the {@code left} map, so resolving {@code k} values of the range costs
+     * {@code O(log n + k)} rather than {@code O(n)}.
+     *
+     * @param left          A {@link java.util.NavigableMap} of {@code LEFT} values by their identifiers.
+     * @param right         A {@link java.util.NavigableMap} of {@code RIGHT} values by their identifiers, in the same
+     *                      order.
+     * @param from          The low end of the range.
+     * @param fromInclusive Whether {@code from} is within the range.
+     * @param to            The high end of the range.
+     * @param toInclusive   Whether {@code to} is within the range.
+     * @return The {@link Changes} of the range.
+     */
+    @SuppressWarnings("unchecked")
+    public Changes<LEFT, RIGHT> resolveRange(
+            final NavigableMap<ID, LEFT> left,
+            final NavigableMap<ID, RIGHT> right,
+            final ID from,
+            final boolean fromInclusive,
+            final ID to,
+            final boolean toInclusive
+    ) {
+        Comparator<? super ID> order = left.comparator() != null
+                ? left.comparator()
+                : (x, y) -> ((Comparable<? super ID>) x).compareTo(y);
+
+        Iterator<Map.Entry<ID, LEFT>> lefts = left.subMap(from, fromInclusive, to, toInclusive).entrySet().iterator();
+        Iterator<Map.Entry<ID, RIGHT>> rights = right.subMap(from, fromInclusive, to, toInclusive).entrySet().iterator();
+
+        List<Match<LEFT, RIGHT>> matches = new ArrayList<>();
+        Map.Entry<ID, LEFT> l = lefts.hasNext() ? lefts.next() : null;
+        Map.Entry<ID, RIGHT> r = rights.hasNext() ? rights.next() : null;
+
+        while (l != null || r != null) {
+            int compared = l == null ? 1 : r == null ? -1 : order.compare(l.getKey(), r.getKey());
+
+            if (compared < 0) {
+                matches.add(new Match.OnlyLeft<>(l.getValue()));
+                l = lefts.hasNext() ? lefts.next() : null;
+            } else if (compared > 0) {
+                matches.add(new Match.OnlyRight<>(r.getValue()));
+                r = rights.hasNext() ? rights.next() : null;
+            } else {
+                matches.add(new Match.Both<>(l.getValue(), r.getValue()));
+                l = lefts.hasNext() ? lefts.next() : null;
+                r = rights.hasNext() ? rights.next() : null;
+            }
+        }
+
+        return new Changes<>(matches);
+    }
+
+    /**
+     * Resolves at most {@code limit} matches of each kind ({@link Match.OnlyRight}, {@link Match.OnlyLeft} and
+     * {@link Match.Both}); resolution stops once every kind has reached the {@code limit}.
+     *
+     * @param left  A {@link java.util.Collection} of {@code LEFT} values.
+     * @param right A {@link java.util.Collection} of {@code RIGHT} values.
+     * @param limit The maximum number of matches of each kind.
+     * @return The {@link Changes} sampled from the first matches of each kind.
+     */
+    public Changes<LEFT, RIGHT> resolve(final Collection<LEFT> left, final Collection<RIGHT> right, final long limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("The limit must not be negative: " + limit);
+        }
+
+        long[] counts = new long[3];
+        List<Match<LEFT, RIGHT>> sampled = new ArrayList<>();
+
+        Iterator<Match<LEFT, RIGHT>> matches = resolverFor(left, right, false).resolve(left, right).iterator();
+
+        while (matches.hasNext() && (counts[0] < limit || counts[1] < limit || counts[2] < limit)) {
+            Match<LEFT, RIGHT> match = matches.next();
+
+            int kind = switch (match) {
+                case Match.OnlyRight<LEFT, RIGHT> ignored -> 0;
+                case Match.OnlyLeft<LEFT, RIGHT> ignored -> 1;
+                case Match.Both<LEFT, RIGHT> ignored -> 2;
+            };
+
+            if (counts[kind] < limit) {
+                counts[kind]++;
+                sampled.add(match);
+            }
+        }
+
+        return new Changes<>(sampled);
+    }
+
+    /**
+     * Creates a {@link java.util.concurrent.Flow.Publisher} of every {@link Match} between {@code left} and
+     * {@code right}.  Matches are resolved on the thread requesting them and only as far as the subscriber's demand,
+     * so resolution pauses while the subscriber catches up; cancelling the subscription releases the resolution.  Each
+     * subscriber receives its own resolution.
+     *
+     * @param left  A {@link java.util.Collection} of {@code LEFT} values.
+     * @param right A {@link java.util.Collection} of {@code RIGHT} values.
+     * @return A {@link java.util.concurrent.Flow.Publisher} of {@link Match}es.
+     */
+    public Flow.Publisher<Match<LEFT, RIGHT>> publish(final Collection<LEFT> left, final Collection<RIGHT> right) {
+        return new MatchPublisher<>(() -> resolverFor(left, right, false).resolve(left, right));
+    }
+
+    /**
+     * Determines whether there are any additions, removals or alterations, stopping at the first one found.  Values are
+     * assumed to be uniquely identified, so {@link java.util.Collection}s of differing sizes always have changes.
+     *
+     * @param left  A {@link java.util.Collection} of {@code LEFT} values.
+     * @param right A {@link java.util.Collection} of {@code RIGHT} values.
+     * @return {@code true} if there is at least one change.
+     */
+    public boolean hasChanges(final Collection<LEFT> left, final Collection<RIGHT> right) {
+        return hasChanges(left, right, Changes::notEqual);
+    }
+
+    /**
+     * Determines whether there are any additions, removals or alterations (as decided by {@code hasChange}), stopping
+     * at the first one found.
+     *
+     * @param left      A {@link java.util.Collection} of {@code LEFT} values.
+     * @param right     A {@link java.util.Collection} of {@code RIGHT} values.
+     * @param hasChange Decides whether a paired left and right value is altered.
+     * @return {@code true} if there is at least one change.
+     */
+    public boolean hasChanges(
+            final Collection<LEFT> left,
+            final Collection<RIGHT> right,
+            final BiFunction<LEFT, RIGHT, Boolean> hasChange
+    ) {
+        if (left.size() != right.size()) {
+            return true;
+        }
+
+        return resolverFor(left, right, false).resolve(left, right)
+                .anyMatch(Changes.<LEFT, RIGHT>changed(hasChange).or(match -> !(match instanceof Match.Both)));
+    }
+
+    /**
+     * @param left  A {@link java.util.Collection} of {@code LEFT} values.
+     * @param right A {@link java.util.Collection} of {@code RIGHT} values.
+     * @return {@code true} if at least one {@code RIGHT} value has no paired {@code LEFT} value.
+     */
+    public boolean anyAdded(final Collection<LEFT> left, final Collection<RIGHT> right) {
+        if (right.isEmpty()) {
+            return false;
+        } else if (right.size() > left.size()) {
+            return true;
+        }
+
+        return added(left, right).findAny().isPresent();
+    }
+
+    /**
+     * @param left  A {@link java.util.Collection} of {@code LEFT} values.
+     * @param right A {@link java.util.Collection} of {@code RIGHT} values.
+     * @return {@code true} if at least one {@code LEFT} value has no paired {@code RIGHT} value.
+     */
+    public boolean anyRemoved(final Collection<LEFT> left, final Collection<RIGHT> right) {
+        if (left.isEmpty()) {
+            return false;
+        } else if (left.size() > right.size()) {
+            return true;
+        }
+
+        return removed(left, right).findAny().isPresent();
+    }
+
+    /**
+     * @param left  A {@link java.util.Collection} of {@code LEFT} values.
+     * @param right A {@link java.util.Collection} of {@code RIGHT} values.
+     * @return {@code true} if at least one pair of {@code LEFT} and {@code RIGHT} values are not equal.
+     */
+    public boolean anyAltered(final Collection<LEFT> left, final Collection<RIGHT> right) {
+        if (left.isEmpty() || right.isEmpty()) {
+            return false;
+        }
+
+        return altered(left, right).findAny().isPresent();
+    }
+
+    /**
+     * Resolves only the additions, without producing matches for removed or paired values.  Resolution is lazy, so
+     * short-circuiting operations (e.g. {@link Stream#limit}) stop it early.
+     *
+     * @param left  A {@link java.util.Collection} of {@code LEFT} values.
+     * @param right A {@link java.util.Collection} of {@code RIGHT} values.
+     * @return The {@code RIGHT} values without a paired {@code LEFT} value.
+     */
+    public Stream<RIGHT> added(final Collection<LEFT> left, final Collection<RIGHT> right) {
+        return resolverFor(left, right, false).onlyRight(left, right);
+    }
+
+    /**
+     * Resolves only the removals, without producing matches for added or paired values.  Resolution is lazy, so
+     * short-circuiting operations (e.g. {@link Stream#limit}) stop it early.
+     *
+     * @param left  A {@link java.util.Collection} of {@code LEFT} values.
+     * @param right A {@link java.util.Collection} of {@code RIGHT} values.
+     * @return The {@code LEFT} values without a paired {@code RIGHT} value.
+     */
+    public Stream<LEFT> removed(final Collection<LEFT> left, final Collection<RIGHT> right) {
+        return resolverFor(left, right, false).onlyLeft(left, right);
+    }
+
+    /**
+     * Resolves only the paired values that are not equal, without producing matches for added or removed values.
+     * Resolution is lazy, so short-circuiting operations (e.g. {@link Stream#limit}) stop it early.
+     *
+     * @param left  A {@link java.util.Collection} of {@code LEFT} values.
+     * @param right A {@link java.util.Collection} of {@code RIGHT} values.
+     * @return The altered pairs of {@code LEFT} and {@code RIGHT} values.
+     */
+    public Stream<Match.Both<LEFT, RIGHT>> altered(final Collection<LEFT> left, final Collection<RIGHT> right) {
+        return altered(left, right, Changes::notEqual);
+    }
+
+    /**
+     * Resolves only the paired values altered as decided by {@code hasChange}, without producing matches for added or
+     * removed values.  Resolution is lazy, so short-circuiting operations (e.g. {@link Stream#limit}) stop it early.
+     *
+     * @param left      A {@link java.util.Collection} of {@code LEFT} values.
+     * @param right     A {@link java.util.Collection} of {@code RIGHT} values.
+     * @param hasChange Decides whether a paired left and right value is altered.
+     * @return The altered pairs of {@code LEFT} and {@code RIGHT} values.
+     */
+    public Stream<Match.Both<LEFT, RIGHT>> altered(
+            final Collection<LEFT> left,
+            final Collection<RIGHT> right,
+            final BiFunction<LEFT, RIGHT, Boolean> hasChange
+    ) {
+        return resolverFor(left, right, false).both(left, right)
+                .filter(both -> both.withBoth(hasChange));
+    }
+
+    private MatchResolver<LEFT, RIGHT, ID> resolverFor(
+            final Collection<LEFT> left,
+            final Collection<RIGHT> right,
+            final boolean exhaustive
+    ) {
+        if (resolver != null) {
+            return resolver;
+        }
+
+        Strategy selected = strategy != null
+                ? strategy
+                : Strategy.select(left, right, leftToIdentifier, rightToIdentifier, exhaustive);
+
+        observer.accept(selected);
+
+        return selected.resolver(leftToIdentifier, rightToIdentifier);
     }
 
 }
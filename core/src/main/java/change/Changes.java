@@ -1,25 +1,89 @@
 package change;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
-public final class Changes<L, R> {
+public final class Changes<L, R> implements Serializable {
 
-    private static <X, Y> Boolean notEqual(final X x, final Y y) {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Combines the {@code Changes} resolved from disjoint shards of the same values into one {@code Changes}.
+     *
+     * @param shards The {@code Changes} of each shard.
+     * @param <L>    The type of the left values.
+     * @param <R>    The type of the right values.
+     * @return The {@code Changes} of every shard.
+     */
+    public static <L, R> Changes<L, R> merge(final Collection<Changes<L, R>> shards) {
+        int size = 0;
+        for (Changes<L, R> shard : shards) {
+            size += shard.matches.size();
+        }
+
+        List<Match<L, R>> matches = new ArrayList<>(size);
+        List<Match.Both<L, R>> rekeyed = new ArrayList<>();
+        boolean complete = true;
+        for (Changes<L, R> shard : shards) {
+            matches.addAll(shard.matches);
+            rekeyed.addAll(shard.rekeyed);
+            complete &= shard.complete;
+        }
+
+        return new Changes<>(matches, complete, rekeyed);
+    }
+
+    static <X, Y> Boolean notEqual(final X x, final Y y) {
         return !Objects.equals(x, y);
     }
 
-    private static <L, R> Predicate<Match<L, R>> changed(final BiFunction<L, R, Boolean> hasChange) {
+    static <L, R> Predicate<Match<L, R>> changed(final BiFunction<L, R, Boolean> hasChange) {
         return match -> (match instanceof Match.Both<L, R> both) ? both.withBoth(hasChange) : false;
     }
 
-    private final Collection<Match<L, R>> matches;
+    private final transient Collection<Match<L, R>> matches;
+
+    private final transient boolean complete;
+
+    private final transient Collection<Match.Both<L, R>> rekeyed;
 
     Changes(final Collection<Match<L, R>> matches) {
+        this(matches, true);
+    }
+
+    Changes(final Collection<Match<L, R>> matches, final boolean complete) {
+        this(matches, complete, List.of());
+    }
+
+    Changes(final Collection<Match<L, R>> matches, final boolean complete, final Collection<Match.Both<L, R>> rekeyed) {
         this.matches = matches;
+        this.complete = complete;
+        this.rekeyed = rekeyed;
+    }
+
+    /**
+     * @return {@code false} if resolution stopped before every change was resolved, in which case these are only the
+     * changes resolved until then.
+     */
+    public boolean isComplete() {
+        return complete;
     }
 
     public Stream<R> added() {
@@ -48,5 +112,120 @@ public final class Changes<L, R> {
                 .map(m -> ((Match.OnlyLeft<L, R>) m).left());
     }
 
+    /**
+     * Pairs removed and added values whose identifiers differ but whose {@code leftFingerprint} and
+     * {@code rightFingerprint} are equal (e.g. a hash of their content, or a secondary natural key); for values whose
+     * identifiers were regenerated.  Each side is indexed by fingerprint, so a pair is found without comparing every
+     * removal to every addition.  Fingerprints shared by more than one removal, or more than one addition, are
+     * ambiguous and not paired.
+     *
+     * @param leftFingerprint  A {@link java.util.function.Function} to resolve the fingerprint of a removed value.
+     * @param rightFingerprint A {@link java.util.function.Function} to resolve the fingerprint of an added value.
+     * @param <K>              The type of the fingerprint.
+     * @return {@code Changes} where the paired values are {@linkplain #rekeyed() rekeyed} rather than removed and
+     * added.
+     */
+    public <K> Changes<L, R> detectRekeyed(final Function<L, K> leftFingerprint, final Function<R, K> rightFingerprint) {
+        Map<K, Match.OnlyLeft<L, R>> removals = new HashMap<>();
+        Map<K, Match.OnlyRight<L, R>> additions = new HashMap<>();
+
+        for (Match<L, R> match : matches) {
+            if (match instanceof Match.OnlyLeft<L, R> removal) {
+                fingerprinted(removals, leftFingerprint.apply(removal.left()), removal);
+            } else if (match instanceof Match.OnlyRight<L, R> addition) {
+                fingerprinted(additions, rightFingerprint.apply(addition.right()), addition);
+            }
+        }
+
+        Set<Match<L, R>> paired = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Match.Both<L, R>> pairs = new ArrayList<>(rekeyed);
+
+        removals.forEach((fingerprint, removal) -> {
+            Match.OnlyRight<L, R> addition = additions.get(fingerprint);
+
+            if (removal != null && addition != null) {
+                paired.add(removal);
+                paired.add(addition);
+                pairs.add(new Match.Both<>(removal.left(), addition.right()));
+            }
+        });
+
+        if (pairs.size() == rekeyed.size()) {
+            return this;
+        }
+
+        List<Match<L, R>> remaining = new ArrayList<>(matches.size() - paired.size());
+        for (Match<L, R> match : matches) {
+            if (!paired.contains(match)) {
+                remaining.add(match);
+            }
+        }
+
+        return new Changes<>(remaining, complete, pairs);
+    }
+
+    /**
+     * An ambiguous fingerprint is kept with a {@code null} match, so that it is never paired.
+     */
+    private static <K, M> void fingerprinted(final Map<K, M> fingerprinted, final K fingerprint, final M match) {
+        if (fingerprint != null) {
+            fingerprinted.put(fingerprint, fingerprinted.containsKey(fingerprint) ? null : match);
+        }
+    }
+
+    /**
+     * @return The pairs of a removed value and the added value that replaced it under a new identifier, as detected by
+     * {@link #detectRekeyed(Function, Function)}.
+     */
+    public Stream<Match.Both<L, R>> rekeyed() {
+        return rekeyed.stream();
+    }
+
+    /**
+     * Passes each removal, addition, alteration (of non-equal paired values) and rekeying to the {@code handler}, in
+     * that order.
+     *
+     * @param handler The {@link ChangeHandler} of each change.
+     */
+    public void forEach(final ChangeHandler<L, R> handler) {
+        forEach(handler, Changes::notEqual);
+    }
+
+    /**
+     * Passes each removal, addition, alteration (as decided by {@code hasChange}) and rekeying to the {@code handler},
+     * in that order.
+     *
+     * @param handler   The {@link ChangeHandler} of each change.
+     * @param hasChange Decides whether a paired left and right value is altered.
+     */
+    public void forEach(final ChangeHandler<L, R> handler, final BiFunction<L, R, Boolean> hasChange) {
+        removed().forEach(handler::removed);
+        added().forEach(handler::added);
+        altered(hasChange).forEach(both -> both.usingBoth(handler::altered));
+        rekeyed().forEach(both -> both.usingBoth(handler::rekeyed));
+    }
+
+    @Serial
+    private Object writeReplace() {
+        return new Wire(matches.toArray(Match<?, ?>[]::new), complete, rekeyed.toArray(Match.Both<?, ?>[]::new));
+    }
+
+    @Serial
+    private void readObject(final ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("Changes are deserialized from their wire form.");
+    }
+
+    /**
+     * The serialized form of {@link Changes}: an array of its {@link Match}es, whether they are complete, and an array of
+     * its rekeyed pairs.
+     */
+    private record Wire(Match<?, ?>[] matches, boolean complete, Match.Both<?, ?>[] rekeyed) implements Serializable {
+
+        @Serial
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Object readResolve() {
+            return new Changes(Arrays.asList(matches), complete, Arrays.asList(rekeyed));
+        }
+    }
 
 }
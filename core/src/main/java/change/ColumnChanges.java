@@ -0,0 +1,41 @@
+package change;
+
+import java.util.Arrays;
+
+/**
+ * The changes between two sorted columns of identifiers, as positions within those columns.  Every array is in
+ * ascending order; {@code bothLeft[n]} and {@code bothRight[n]} are the positions of the same identifier.  Equality,
+ * hash code and string form are those of the arrays' contents.
+ *
+ * @param onlyLeft  The positions of the left identifiers absent from the right column (the removals).
+ * @param onlyRight The positions of the right identifiers absent from the left column (the additions).
+ * @param bothLeft  The positions of the left identifiers present in both columns.
+ * @param bothRight The positions of the right identifiers present in both columns.
+ */
+public record ColumnChanges(int[] onlyLeft, int[] onlyRight, int[] bothLeft, int[] bothRight) {
+
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof ColumnChanges changes
+                && Arrays.equals(onlyLeft, changes.onlyLeft)
+                && Arrays.equals(onlyRight, changes.onlyRight)
+                && Arrays.equals(bothLeft, changes.bothLeft)
+                && Arrays.equals(bothRight, changes.bothRight);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Arrays.hashCode(onlyLeft);
+        hash = 31 * hash + Arrays.hashCode(onlyRight);
+        hash = 31 * hash + Arrays.hashCode(bothLeft);
+        return 31 * hash + Arrays.hashCode(bothRight);
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnChanges[onlyLeft=" + Arrays.toString(onlyLeft)
+                + ", onlyRight=" + Arrays.toString(onlyRight)
+                + ", bothLeft=" + Arrays.toString(bothLeft)
+                + ", bothRight=" + Arrays.toString(bothRight) + "]";
+    }
+}
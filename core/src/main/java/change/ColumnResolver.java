@@ -0,0 +1,98 @@
+package change;
+
+import java.util.Arrays;
+
+/**
+ * Resolves the changes between two columns of {@code long} identifiers, each sorted in strictly ascending order,
+ * without creating an object per identifier.  When the {@code jdk.incubator.vector} module is available (e.g. with
+ * {@code --add-modules jdk.incubator.vector}) the end of each run of unpaired identifiers is found a vector at a time;
+ * otherwise a scalar merge is used.  Paired identifiers and every position are handled one at a time either way.
+ */
+public final class ColumnResolver {
+
+    private static final boolean VECTORIZED = ModuleLayer.boot()
+            .findModule("jdk.incubator.vector")
+            .isPresent();
+
+    private ColumnResolver() {
+    }
+
+    /**
+     * @param left  The left identifiers, in strictly ascending order.
+     * @param right The right identifiers, in strictly ascending order.
+     * @return The {@link ColumnChanges} between {@code left} and {@code right}.
+     * @throws IllegalArgumentException If either column is not in strictly ascending order.
+     */
+    public static ColumnChanges resolve(final long[] left, final long[] right) {
+        ascending(left, "left");
+        ascending(right, "right");
+
+        return VECTORIZED ? VectorColumnResolver.merge(left, right) : merge(left, right);
+    }
+
+    /**
+     * @return {@code true} if columns are resolved using the Vector API.
+     */
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    static ColumnChanges merge(final long[] left, final long[] right) {
+        int[] onlyLeft = new int[left.length];
+        int[] onlyRight = new int[right.length];
+        int[] bothLeft = new int[Math.min(left.length, right.length)];
+        int[] bothRight = new int[bothLeft.length];
+
+        int l = 0, r = 0, removed = 0, added = 0, paired = 0;
+
+        while (l < left.length && r < right.length) {
+            long x = left[l];
+            long y = right[r];
+
+            if (x < y) {
+                onlyLeft[removed++] = l++;
+            } else if (x > y) {
+                onlyRight[added++] = r++;
+            } else {
+                bothLeft[paired] = l++;
+                bothRight[paired++] = r++;
+            }
+        }
+
+        while (l < left.length) {
+            onlyLeft[removed++] = l++;
+        }
+
+        while (r < right.length) {
+            onlyRight[added++] = r++;
+        }
+
+        return changes(onlyLeft, removed, onlyRight, added, bothLeft, bothRight, paired);
+    }
+
+    static ColumnChanges changes(
+            final int[] onlyLeft,
+            final int removed,
+            final int[] onlyRight,
+            final int added,
+            final int[] bothLeft,
+            final int[] bothRight,
+            final int paired
+    ) {
+        return new ColumnChanges(
+                removed == onlyLeft.length ? onlyLeft : Arrays.copyOf(onlyLeft, removed),
+                added == onlyRight.length ? onlyRight : Arrays.copyOf(onlyRight, added),
+                paired == bothLeft.length ? bothLeft : Arrays.copyOf(bothLeft, paired),
+                paired == bothRight.length ? bothRight : Arrays.copyOf(bothRight, paired)
+        );
+    }
+
+    private static void ascending(final long[] column, final String side) {
+        for (int n = 1; n < column.length; n++) {
+            if (column[n - 1] >= column[n]) {
+                throw new IllegalArgumentException("The " + side + " identifiers are not in strictly ascending order at "
+                        + n + ": " + column[n - 1] + " precedes " + column[n]);
+            }
+        }
+    }
+}
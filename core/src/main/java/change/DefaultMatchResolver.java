@@ -1,15 +1,33 @@
 package change;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
- * A {@link MatchResolver} that determines matches between Left and Right values by inserting values from each input
- * collection into respective {@link java.util.Map}s.  Each Map is iterated over attempting to look up each value
- * in the other Map.
+ * A {@link MatchResolver} that determines matches between Left and Right values by inserting the Left values into a
+ * {@link java.util.Map}.  The Right values are then streamed, each being paired with (and removed from) the Map, before
+ * the Left values remaining in the Map are streamed as unpaired.
+ * <p>
+ * Only the Left values are indexed before the first match is produced, so short-circuiting operations (e.g.
+ * {@link Stream#anyMatch}, {@link Stream#limit}) on the resolved {@link Stream} stop probing the Right values as soon as
+ * they are satisfied.  The resolved {@link Stream} must be consumed sequentially.
+ * <p>
+ * When resolving only one kind of match, only the smaller input collection is indexed (just its identifiers, for
+ * unpaired values) and the other is streamed against it as a semi-join or anti-join.  The identifiers of the streamed
+ * values are kept in a {@link java.util.Set}, so duplicate identifiers on either side are rejected as by
+ * {@link #resolve(Collection, Collection)}.
  *
  * @param <L> The type of the Left values
  * @param <R> The type of the Right values
@@ -27,26 +45,161 @@ class DefaultMatchResolver<L, R, I> implements MatchResolver<L, R, I> {
 
     @Override
     public Stream<Match<L, R>> resolve(final Collection<L> lefts, final Collection<R> rights) {
-        Map<I, L> leftMap = identified(leftToIdentifier, lefts);
+        return resolve(lefts, rights, Cancellation.none());
+    }
 
-        Map<I, R> rightMap = identified(rightToIdentifier, rights);
+    @Override
+    public Stream<Match<L, R>> resolve(
+            final Collection<L> lefts,
+            final Collection<R> rights,
+            final Cancellation cancellation
+    ) {
+        Map<I, L> unpaired = identified(leftToIdentifier, lefts, cancellation);
 
-        return paired(leftMap, rightMap)
-                //  values found in both maps will produce duplicate matches
-                .distinct();
-    }
+        Set<I> rightIdentifiers = new HashSet<>();
 
-    private Stream<Match<L, R>> paired(final Map<I, L> lefts, final Map<I, R> rights) {
         return Stream.concat(
-                lefts.entrySet().stream()
-                        .map(e -> Match.of(e.getValue(), rights.get(e.getKey()))),
-                rights.entrySet().stream()
-                        .map(e -> Match.of(lefts.get(e.getKey()), e.getValue()))
+                rights.stream()
+                        .map(right -> paired(unpaired, rightIdentifiers, right)),
+                //  deferred until every right value has been paired
+                deferred(() -> unpaired.values().iterator())
+                        .map(Match.OnlyLeft::new)
         );
     }
 
-    private <K, V> Map<K, V> identified(final Function<V, K> idMapper, final Collection<V> values) {
-        return values.stream().collect(Collectors.toMap(idMapper, Function.identity()));
+    @Override
+    public Stream<R> onlyRight(final Collection<L> lefts, final Collection<R> rights) {
+        return unpaired(lefts, leftToIdentifier, rights, rightToIdentifier);
+    }
+
+    @Override
+    public Stream<L> onlyLeft(final Collection<L> lefts, final Collection<R> rights) {
+        return unpaired(rights, rightToIdentifier, lefts, leftToIdentifier);
+    }
+
+    @Override
+    public Stream<Match.Both<L, R>> both(final Collection<L> lefts, final Collection<R> rights) {
+        if (lefts.size() <= rights.size()) {
+            Map<I, L> indexed = identified(leftToIdentifier, lefts, Cancellation.none());
+            Set<I> streamed = new HashSet<>();
+
+            return rights.stream().mapMulti((right, downstream) -> {
+                L left = indexed.get(distinct(streamed, rightToIdentifier.apply(right)));
+                if (left != null) {
+                    downstream.accept(new Match.Both<>(left, right));
+                }
+            });
+        }
+
+        Map<I, R> indexed = identified(rightToIdentifier, rights, Cancellation.none());
+        Set<I> streamed = new HashSet<>();
+
+        return lefts.stream().mapMulti((left, downstream) -> {
+            R right = indexed.get(distinct(streamed, leftToIdentifier.apply(left)));
+            if (right != null) {
+                downstream.accept(new Match.Both<>(left, right));
+            }
+        });
+    }
+
+    /**
+     * Resolves the {@code values} whose identifiers are not among the identifiers of the {@code others}.
+     */
+    private <X, Y> Stream<Y> unpaired(
+            final Collection<X> others,
+            final Function<X, I> otherToIdentifier,
+            final Collection<Y> values,
+            final Function<Y, I> toIdentifier
+    ) {
+        Set<I> streamed = new HashSet<>();
+
+        if (others.size() <= values.size()) {
+            Set<I> otherIdentifiers = identifiers(otherToIdentifier, others);
+
+            return values.stream()
+                    .filter(value -> !otherIdentifiers.contains(distinct(streamed, toIdentifier.apply(value))));
+        }
+
+        Map<I, Y> unpaired = identified(toIdentifier, values, Cancellation.none());
+
+        return deferred(() -> {
+            others.forEach(other -> unpaired.remove(distinct(streamed, otherToIdentifier.apply(other))));
+            return unpaired.values().iterator();
+        });
+    }
+
+    private static <K> K distinct(final Set<K> identifiers, final K identifier) {
+        if (!identifiers.add(identifier)) {
+            throw new IllegalStateException("Duplicate key " + identifier);
+        }
+        return identifier;
+    }
+
+    private Match<L, R> paired(final Map<I, L> unpaired, final Set<I> rightIdentifiers, final R right) {
+        return Match.of(unpaired.remove(distinct(rightIdentifiers, rightToIdentifier.apply(right))), right);
+    }
+
+    private <V> Set<I> identifiers(final Function<V, I> idMapper, final Collection<V> values) {
+        Set<I> identifiers = HashSet.newHashSet(values.size());
+
+        for (V value : values) {
+            I identifier = idMapper.apply(value);
+
+            if (!identifiers.add(identifier)) {
+                throw new IllegalStateException("Duplicate key " + identifier);
+            }
+        }
+
+        return identifiers;
+    }
+
+    private <K, V> Map<K, V> identified(
+            final Function<V, K> idMapper,
+            final Collection<V> values,
+            final Cancellation cancellation
+    ) {
+        Map<K, V> identified = HashMap.newHashMap(values.size());
+
+        int indexed = 0;
+        for (V value : values) {
+            if (++indexed % Cancellation.CHECK_INTERVAL == 0) {
+                cancellation.check();
+            }
+
+            K identifier = idMapper.apply(value);
+
+            if (identified.putIfAbsent(identifier, Objects.requireNonNull(value)) != null) {
+                throw new IllegalStateException("Duplicate key " + identifier);
+            }
+        }
+
+        return identified;
+    }
+
+    /**
+     * Creates a {@link Stream} of the elements of an {@link Iterator} that is only supplied once the first element is
+     * requested, so that it reflects every change made before then; and is consumed an element at a time, even by an
+     * {@link Iterator} of the {@link Stream}.
+     */
+    private static <T> Stream<T> deferred(final Supplier<Iterator<T>> supplier) {
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.NONNULL) {
+
+            private Iterator<T> iterator;
+
+            @Override
+            public boolean tryAdvance(final Consumer<? super T> action) {
+                if (iterator == null) {
+                    iterator = supplier.get();
+                }
+
+                if (!iterator.hasNext()) {
+                    return false;
+                }
+
+                action.accept(iterator.next());
+                return true;
+            }
+        }, false);
     }
 
 }
@@ -0,0 +1,21 @@
+package change;
+
+/**
+ * Keys identifiers in maps that reject {@code null} keys (e.g. {@link java.util.concurrent.ConcurrentHashMap}), so a
+ * {@code null} identifier is paired like any other.
+ */
+final class IdentifierKey {
+
+    private static final Object NULL = new Object();
+
+    private IdentifierKey() {
+    }
+
+    /**
+     * @param identifier An identifier, or {@code null}.
+     * @return The {@code identifier}, or a sentinel in place of {@code null}.
+     */
+    static Object of(final Object identifier) {
+        return identifier == null ? NULL : identifier;
+    }
+}
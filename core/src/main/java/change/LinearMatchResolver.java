@@ -0,0 +1,144 @@
+package change;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * A {@link MatchResolver} that determines matches between Left and Right values by scanning the identifiers of the
+ * Left values for the identifier of each Right value.  Intended for inputs small enough that scanning is cheaper than
+ * hashing.
+ *
+ * @param <L> The type of the Left values
+ * @param <R> The type of the Right values
+ * @param <I> The type of identifier used to match Left and Right values
+ */
+class LinearMatchResolver<L, R, I> implements MatchResolver<L, R, I> {
+
+    private final Function<L, I> leftToIdentifier;
+    private final Function<R, I> rightToIdentifier;
+
+    LinearMatchResolver(final Function<L, I> leftToIdentifier, final Function<R, I> rightToIdentifier) {
+        this.leftToIdentifier = leftToIdentifier;
+        this.rightToIdentifier = rightToIdentifier;
+    }
+
+    @Override
+    public Stream<Match<L, R>> resolve(final Collection<L> lefts, final Collection<R> rights) {
+        List<L> leftValues = new ArrayList<>(lefts);
+        List<R> rightValues = new ArrayList<>(rights);
+        int[] pairs = pair(leftValues, rightValues);
+
+        boolean[] paired = new boolean[leftValues.size()];
+
+        List<Match<L, R>> matches = new ArrayList<>(leftValues.size() + rightValues.size());
+
+        for (int r = 0; r < rightValues.size(); r++) {
+            int l = pairs[r];
+
+            if (l < 0) {
+                matches.add(new Match.OnlyRight<>(rightValues.get(r)));
+            } else {
+                paired[l] = true;
+                matches.add(new Match.Both<>(leftValues.get(l), rightValues.get(r)));
+            }
+        }
+
+        for (int l = 0; l < leftValues.size(); l++) {
+            if (!paired[l]) {
+                matches.add(new Match.OnlyLeft<>(leftValues.get(l)));
+            }
+        }
+
+        return matches.stream();
+    }
+
+    @Override
+    public Stream<R> onlyRight(final Collection<L> lefts, final Collection<R> rights) {
+        List<R> rightValues = new ArrayList<>(rights);
+        int[] pairs = pair(new ArrayList<>(lefts), rightValues);
+
+        List<R> added = new ArrayList<>(rightValues.size());
+        for (int r = 0; r < rightValues.size(); r++) {
+            if (pairs[r] < 0) {
+                added.add(rightValues.get(r));
+            }
+        }
+
+        return added.stream();
+    }
+
+    @Override
+    public Stream<L> onlyLeft(final Collection<L> lefts, final Collection<R> rights) {
+        List<L> leftValues = new ArrayList<>(lefts);
+        int[] pairs = pair(leftValues, new ArrayList<>(rights));
+
+        boolean[] paired = new boolean[leftValues.size()];
+        for (int l : pairs) {
+            if (l >= 0) {
+                paired[l] = true;
+            }
+        }
+
+        List<L> removed = new ArrayList<>(leftValues.size());
+        for (int l = 0; l < leftValues.size(); l++) {
+            if (!paired[l]) {
+                removed.add(leftValues.get(l));
+            }
+        }
+
+        return removed.stream();
+    }
+
+    @Override
+    public Stream<Match.Both<L, R>> both(final Collection<L> lefts, final Collection<R> rights) {
+        List<L> leftValues = new ArrayList<>(lefts);
+        List<R> rightValues = new ArrayList<>(rights);
+        int[] pairs = pair(leftValues, rightValues);
+
+        List<Match.Both<L, R>> matches = new ArrayList<>(Math.min(leftValues.size(), rightValues.size()));
+        for (int r = 0; r < rightValues.size(); r++) {
+            if (pairs[r] >= 0) {
+                matches.add(new Match.Both<>(leftValues.get(pairs[r]), rightValues.get(r)));
+            }
+        }
+
+        return matches.stream();
+    }
+
+    /**
+     * @return The index of the Left value paired with each Right value, or {@code -1} for an unpaired Right value.
+     */
+    private int[] pair(final List<L> leftValues, final List<R> rightValues) {
+        List<I> leftIdentifiers = identified(leftToIdentifier, leftValues);
+        List<I> rightIdentifiers = identified(rightToIdentifier, rightValues);
+
+        int[] pairs = new int[rightValues.size()];
+        for (int r = 0; r < rightValues.size(); r++) {
+            pairs[r] = leftIdentifiers.indexOf(rightIdentifiers.get(r));
+        }
+
+        return pairs;
+    }
+
+    private <K, V> List<K> identified(final Function<V, K> idMapper, final List<V> values) {
+        List<K> identifiers = new ArrayList<>(values.size());
+
+        for (V value : values) {
+            K identifier = idMapper.apply(value);
+
+            for (K previous : identifiers) {
+                if (Objects.equals(previous, identifier)) {
+                    throw new IllegalStateException("Duplicate key " + identifier);
+                }
+            }
+            identifiers.add(identifier);
+        }
+
+        return identifiers;
+    }
+
+}
@@ -1,11 +1,12 @@
 package change;
 
+import java.io.Serializable;
 import java.util.Objects;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
-public sealed interface Match<L, R> {
+public sealed interface Match<L, R> extends Serializable {
 
     static <L, R> Match<L, R> of(L left, R right) {
         if (left != null && right != null) {
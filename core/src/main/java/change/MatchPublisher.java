@@ -0,0 +1,150 @@
+package change;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A {@link Flow.Publisher} of {@link Match}es that resolves matches only as they are requested.  Each subscription
+ * resolves its own matches, on the thread requesting them, beginning with the first request; cancelling a subscription
+ * releases whatever the resolution holds (e.g. the index of values) without waiting for it to complete.
+ *
+ * @param <L> The type of the Left values
+ * @param <R> The type of the Right values
+ */
+final class MatchPublisher<L, R> implements Flow.Publisher<Match<L, R>> {
+
+    private final Supplier<Stream<Match<L, R>>> resolution;
+
+    MatchPublisher(final Supplier<Stream<Match<L, R>>> resolution) {
+        this.resolution = resolution;
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super Match<L, R>> subscriber) {
+        Objects.requireNonNull(subscriber, "A subscriber is required.");
+
+        subscriber.onSubscribe(new MatchSubscription(subscriber));
+    }
+
+    private final class MatchSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super Match<L, R>> subscriber;
+
+        private final AtomicLong demand = new AtomicLong();
+
+        //  serializes signals to the subscriber; only the thread incrementing from zero drains
+        private final AtomicInteger work = new AtomicInteger();
+
+        private volatile boolean cancelled;
+
+        private volatile Throwable invalidRequest;
+
+        //  the following are only accessed while draining
+        private Stream<Match<L, R>> matches;
+
+        private Iterator<Match<L, R>> remaining;
+
+        private boolean terminated;
+
+        private MatchSubscription(final Flow.Subscriber<? super Match<L, R>> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("A positive number of matches must be requested: " + n);
+            } else {
+                demand.getAndAccumulate(n, (current, requested) -> {
+                    long total = current + requested;
+                    return total < 0 ? Long.MAX_VALUE : total;
+                });
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void drain() {
+            if (work.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            do {
+                if (!terminated) {
+                    emit();
+                }
+                missed = work.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            long requested = demand.get();
+            long emitted = 0;
+
+            while (emitted != requested) {
+                if (cancelled) {
+                    release();
+                    return;
+                } else if (invalidRequest != null) {
+                    release();
+                    subscriber.onError(invalidRequest);
+                    return;
+                }
+
+                Match<L, R> next;
+                try {
+                    if (remaining == null) {
+                        matches = resolution.get();
+                        remaining = matches.iterator();
+                    }
+
+                    if (!remaining.hasNext()) {
+                        release();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    next = remaining.next();
+                } catch (RuntimeException e) {
+                    release();
+                    subscriber.onError(e);
+                    return;
+                }
+
+                subscriber.onNext(next);
+                emitted++;
+
+                if (emitted == requested) {
+                    requested = demand.addAndGet(-emitted);
+                    emitted = 0;
+                }
+            }
+
+            if (cancelled) {
+                release();
+            } else if (invalidRequest != null) {
+                release();
+                subscriber.onError(invalidRequest);
+            }
+        }
+
+        private void release() {
+            terminated = true;
+            remaining = null;
+            if (matches != null) {
+                matches.close();
+                matches = null;
+            }
+        }
+    }
+}
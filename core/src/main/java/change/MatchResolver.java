@@ -5,4 +5,66 @@ import java.util.stream.Stream;
 
 public interface MatchResolver<L, R, I> {
     Stream<Match<L, R>> resolve(Collection<L> lefts, Collection<R> rights);
+
+    /**
+     * Resolves matches as {@link #resolve(Collection, Collection)} does, checking the {@code cancellation} while doing
+     * any work (e.g. indexing) before the first match can be produced.  Consumers of the resolved {@link Stream} check
+     * the {@code cancellation} between matches.
+     *
+     * @param lefts        The Left values.
+     * @param rights       The Right values.
+     * @param cancellation The {@link Cancellation} to check.
+     * @return The resolved {@link Match}es.
+     * @throws java.util.concurrent.CancellationException If cancelled before the first match can be produced.
+     */
+    default Stream<Match<L, R>> resolve(
+            final Collection<L> lefts,
+            final Collection<R> rights,
+            final Cancellation cancellation
+    ) {
+        cancellation.check();
+        return resolve(lefts, rights);
+    }
+
+    /**
+     * Resolves only the Right values without a paired Left value.  Implementations may avoid indexing, or producing
+     * {@link Match}es for, values that cannot be part of the result.
+     *
+     * @param lefts  The Left values.
+     * @param rights The Right values.
+     * @return The Right values of every {@link Match.OnlyRight}.
+     */
+    default Stream<R> onlyRight(final Collection<L> lefts, final Collection<R> rights) {
+        return resolve(lefts, rights)
+                .filter(Match.OnlyRight.class::isInstance)
+                .map(m -> ((Match.OnlyRight<L, R>) m).right());
+    }
+
+    /**
+     * Resolves only the Left values without a paired Right value.  Implementations may avoid indexing, or producing
+     * {@link Match}es for, values that cannot be part of the result.
+     *
+     * @param lefts  The Left values.
+     * @param rights The Right values.
+     * @return The Left values of every {@link Match.OnlyLeft}.
+     */
+    default Stream<L> onlyLeft(final Collection<L> lefts, final Collection<R> rights) {
+        return resolve(lefts, rights)
+                .filter(Match.OnlyLeft.class::isInstance)
+                .map(m -> ((Match.OnlyLeft<L, R>) m).left());
+    }
+
+    /**
+     * Resolves only the paired Left and Right values.  Implementations may avoid producing {@link Match}es for unpaired
+     * values.
+     *
+     * @param lefts  The Left values.
+     * @param rights The Right values.
+     * @return Every {@link Match.Both}.
+     */
+    default Stream<Match.Both<L, R>> both(final Collection<L> lefts, final Collection<R> rights) {
+        return resolve(lefts, rights)
+                .filter(Match.Both.class::isInstance)
+                .map(m -> (Match.Both<L, R>) m);
+    }
 }
@@ -0,0 +1,193 @@
+package change;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A {@link MatchResolver} that determines matches between Left and Right values by walking both input collections
+ * together, as in a merge join.  Both collections must iterate their values in ascending order of their
+ * {@link Comparable} identifiers; nothing is indexed, and matches are produced in ascending order of identifier.
+ * Resolving a single kind of match walks the same way, without creating a {@link Match} for the other kinds, and stops
+ * once the remaining values cannot produce that kind.
+ *
+ * @param <L> The type of the Left values
+ * @param <R> The type of the Right values
+ * @param <I> The type of identifier used to match Left and Right values
+ */
+class MergeMatchResolver<L, R, I> implements MatchResolver<L, R, I> {
+
+    @SuppressWarnings("unchecked")
+    static int compare(final Object x, final Object y) {
+        if (!(x instanceof Comparable<?>)) {
+            throw new IllegalArgumentException("Identifiers must be Comparable to be merged: " + x);
+        }
+        return ((Comparable<Object>) x).compareTo(y);
+    }
+
+    private final Function<L, I> leftToIdentifier;
+    private final Function<R, I> rightToIdentifier;
+
+    MergeMatchResolver(final Function<L, I> leftToIdentifier, final Function<R, I> rightToIdentifier) {
+        this.leftToIdentifier = leftToIdentifier;
+        this.rightToIdentifier = rightToIdentifier;
+    }
+
+    @Override
+    public Stream<Match<L, R>> resolve(final Collection<L> lefts, final Collection<R> rights) {
+        return merge(lefts, rights, Match.OnlyLeft::new, Match.OnlyRight::new, Match.Both::new);
+    }
+
+    @Override
+    public Stream<R> onlyRight(final Collection<L> lefts, final Collection<R> rights) {
+        return merge(lefts, rights, null, Function.identity(), null);
+    }
+
+    @Override
+    public Stream<L> onlyLeft(final Collection<L> lefts, final Collection<R> rights) {
+        return merge(lefts, rights, Function.identity(), null, null);
+    }
+
+    @Override
+    public Stream<Match.Both<L, R>> both(final Collection<L> lefts, final Collection<R> rights) {
+        return merge(lefts, rights, null, null, Match.Both::new);
+    }
+
+    /**
+     * A {@code null} function skips its kind of match.
+     */
+    private <T> Stream<T> merge(
+            final Collection<L> lefts,
+            final Collection<R> rights,
+            final Function<L, T> onlyLeft,
+            final Function<R, T> onlyRight,
+            final BiFunction<L, R, T> both
+    ) {
+        return StreamSupport.stream(new Merging<>(lefts.iterator(), rights.iterator(), onlyLeft, onlyRight, both), false);
+    }
+
+    private final class Merging<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private final Iterator<L> lefts;
+        private final Iterator<R> rights;
+
+        private final Function<L, T> onlyLeft;
+        private final Function<R, T> onlyRight;
+        private final BiFunction<L, R, T> both;
+
+        private boolean started;
+
+        private L left;
+        private I leftIdentifier;
+
+        private R right;
+        private I rightIdentifier;
+
+        private Merging(
+                final Iterator<L> lefts,
+                final Iterator<R> rights,
+                final Function<L, T> onlyLeft,
+                final Function<R, T> onlyRight,
+                final BiFunction<L, R, T> both
+        ) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.lefts = lefts;
+            this.rights = rights;
+            this.onlyLeft = onlyLeft;
+            this.onlyRight = onlyRight;
+            this.both = both;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            if (!started) {
+                started = true;
+                advanceLeft();
+                advanceRight();
+            }
+
+            while (true) {
+                boolean leftsRemain = left != null && (onlyLeft != null || both != null && right != null);
+                boolean rightsRemain = right != null && (onlyRight != null || both != null && left != null);
+
+                if (!leftsRemain && !rightsRemain) {
+                    return false;
+                }
+
+                int order = left == null ? 1 : right == null ? -1 : compare(leftIdentifier, rightIdentifier);
+
+                if (order < 0) {
+                    L value = left;
+                    advanceLeft();
+                    if (onlyLeft != null) {
+                        action.accept(onlyLeft.apply(value));
+                        return true;
+                    }
+                } else if (order > 0) {
+                    R value = right;
+                    advanceRight();
+                    if (onlyRight != null) {
+                        action.accept(onlyRight.apply(value));
+                        return true;
+                    }
+                } else {
+                    L leftValue = left;
+                    R rightValue = right;
+                    advanceLeft();
+                    advanceRight();
+                    if (both != null) {
+                        action.accept(both.apply(leftValue, rightValue));
+                        return true;
+                    }
+                }
+            }
+        }
+
+        private void advanceLeft() {
+            if (lefts.hasNext()) {
+                L next = lefts.next();
+                I identifier = leftToIdentifier.apply(next);
+                ascending(leftIdentifier, identifier);
+
+                left = next;
+                leftIdentifier = identifier;
+            } else {
+                left = null;
+            }
+        }
+
+        private void advanceRight() {
+            if (rights.hasNext()) {
+                R next = rights.next();
+                I identifier = rightToIdentifier.apply(next);
+                ascending(rightIdentifier, identifier);
+
+                right = next;
+                rightIdentifier = identifier;
+            } else {
+                right = null;
+            }
+        }
+
+        private void ascending(final I previous, final I next) {
+            if (previous == null) {
+                return;
+            }
+
+            int order = compare(previous, next);
+            if (order == 0) {
+                throw new IllegalStateException("Duplicate key " + next);
+            } else if (order > 0) {
+                throw new IllegalArgumentException(
+                        "Values are not in ascending order of identifier: " + previous + " precedes " + next);
+            }
+        }
+    }
+
+}
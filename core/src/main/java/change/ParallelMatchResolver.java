@@ -0,0 +1,66 @@
+package change;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * A {@link MatchResolver} that determines matches between Left and Right values by inserting the Left values into a
+ * {@link java.util.concurrent.ConcurrentHashMap} in parallel, then pairing the Right values with (and removing them
+ * from) the Map in parallel.  The map's bins partition the work between threads without a global lock.
+ * <p>
+ * The Right values are paired before the resolved {@link Stream} is returned; only the unpaired Left values are
+ * streamed lazily.  A {@code null} identifier is kept in the map under a sentinel key, as concurrent maps reject
+ * {@code null} keys.
+ *
+ * @param <L> The type of the Left values
+ * @param <R> The type of the Right values
+ * @param <I> The type of identifier used to match Left and Right values
+ */
+class ParallelMatchResolver<L, R, I> implements MatchResolver<L, R, I> {
+
+    private final Function<L, I> leftToIdentifier;
+    private final Function<R, I> rightToIdentifier;
+
+    ParallelMatchResolver(final Function<L, I> leftToIdentifier, final Function<R, I> rightToIdentifier) {
+        this.leftToIdentifier = leftToIdentifier;
+        this.rightToIdentifier = rightToIdentifier;
+    }
+
+    @Override
+    public Stream<Match<L, R>> resolve(final Collection<L> lefts, final Collection<R> rights) {
+        ConcurrentMap<Object, L> unpaired = new ConcurrentHashMap<>(lefts.size());
+
+        lefts.parallelStream().forEach(left -> {
+            I identifier = leftToIdentifier.apply(left);
+
+            if (unpaired.putIfAbsent(IdentifierKey.of(identifier), left) != null) {
+                throw new IllegalStateException("Duplicate key " + identifier);
+            }
+        });
+
+        Set<Object> rightIdentifiers = ConcurrentHashMap.newKeySet(rights.size());
+
+        List<Match<L, R>> paired = rights.parallelStream()
+                .map(right -> {
+                    I identifier = rightToIdentifier.apply(right);
+
+                    if (!rightIdentifiers.add(IdentifierKey.of(identifier))) {
+                        throw new IllegalStateException("Duplicate key " + identifier);
+                    }
+
+                    return Match.of(unpaired.remove(IdentifierKey.of(identifier)), right);
+                })
+                .toList();
+
+        return Stream.concat(
+                paired.stream(),
+                unpaired.values().stream().map(Match.OnlyLeft::new)
+        );
+    }
+
+}
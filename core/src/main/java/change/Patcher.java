@@ -0,0 +1,340 @@
+package change;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Copies the differing properties of {@code RIGHT} values (e.g. DTOs) onto the properties of the same name of their
+ * paired {@code LEFT} values (e.g. managed entities).  A property is patched when the {@code RIGHT} type can read it
+ * (as a record component or a {@code get}/{@code is} method) and the {@code LEFT} type can both read and write it with a
+ * compatible type.
+ * <p>
+ * The accessors are bound once, through {@link java.lang.invoke.LambdaMetafactory}, so patching a value costs the same
+ * as calling its accessors directly.  Accessors of types not visible from the class loader of the lookup (e.g. types of
+ * a child class loader of an application server) are invoked through their {@link java.lang.invoke.MethodHandle}s
+ * instead, as a bound lambda could not link to them.  A {@code Patcher} holds no state between values, so pairs may be
+ * patched in parallel.
+ *
+ * @param <LEFT>  The type of the values being patched.
+ * @param <RIGHT> The type of the values being copied from.
+ */
+public final class Patcher<LEFT, RIGHT> {
+
+    private static final ClassValue<ClassValue<Patcher<?, ?>>> PATCHERS = new ClassValue<>() {
+        @Override
+        protected ClassValue<Patcher<?, ?>> computeValue(final Class<?> leftType) {
+            return new ClassValue<>() {
+                @Override
+                protected Patcher<?, ?> computeValue(final Class<?> rightType) {
+                    return new Patcher<>(MethodHandles.lookup(), leftType, rightType);
+                }
+            };
+        }
+    };
+
+    /**
+     * Provides the {@code Patcher} for {@code leftType} and {@code rightType}, binding their accessors on first use.
+     * The accessors must be public.
+     *
+     * @param leftType  The type of the values being patched.
+     * @param rightType The type of the values being copied from.
+     * @param <L>       The type of the values being patched.
+     * @param <R>       The type of the values being copied from.
+     * @return The {@link Patcher} for {@code leftType} and {@code rightType}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <L, R> Patcher<L, R> of(final Class<L> leftType, final Class<R> rightType) {
+        return (Patcher<L, R>) PATCHERS.get(leftType).get(rightType);
+    }
+
+    /**
+     * Creates a {@code Patcher} for {@code leftType} and {@code rightType}, binding their accessors through the
+     * {@code lookup}; for types whose accessors are only accessible to the caller.  The {@code Patcher} is not cached.
+     *
+     * @param lookup    A {@link java.lang.invoke.MethodHandles.Lookup} with full privilege access to the accessors.
+     * @param leftType  The type of the values being patched.
+     * @param rightType The type of the values being copied from.
+     * @param <L>       The type of the values being patched.
+     * @param <R>       The type of the values being copied from.
+     * @return A {@link Patcher} for {@code leftType} and {@code rightType}.
+     */
+    public static <L, R> Patcher<L, R> of(
+            final MethodHandles.Lookup lookup,
+            final Class<L> leftType,
+            final Class<R> rightType
+    ) {
+        return new Patcher<>(lookup, leftType, rightType);
+    }
+
+    private final List<Property<LEFT, RIGHT>> properties;
+
+    private Patcher(final MethodHandles.Lookup lookup, final Class<LEFT> leftType, final Class<RIGHT> rightType) {
+        Map<String, Method> sources = readable(rightType);
+        Map<String, Method> targets = readable(leftType);
+        Map<String, Method> writers = writable(leftType);
+
+        List<Property<LEFT, RIGHT>> bound = new ArrayList<>();
+
+        sources.forEach((name, source) -> {
+            Method target = targets.get(name);
+            Method writer = writers.get(name);
+
+            if (target != null && writer != null && assignable(writer.getParameterTypes()[0], source.getReturnType())) {
+                bound.add(new Property<>(name, getter(lookup, source), getter(lookup, target), setter(lookup, writer)));
+            }
+        });
+
+        this.properties = List.copyOf(bound);
+    }
+
+    /**
+     * @return The names of the properties this {@code Patcher} copies, in alphabetical order.
+     */
+    public List<String> properties() {
+        return properties.stream().map(Property::name).toList();
+    }
+
+    /**
+     * Determines whether any property of {@code right} differs from the same property of {@code left}; suitable for
+     * {@link Changes#altered(java.util.function.BiFunction)}.
+     *
+     * @param left  The value that would be patched.
+     * @param right The value that would be copied from.
+     * @return {@code true} if at least one property differs.
+     */
+    public boolean differs(final LEFT left, final RIGHT right) {
+        for (Property<LEFT, RIGHT> property : properties) {
+            if (property.differs(left, right)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Copies each property of {@code right} that differs from the same property of {@code left} onto {@code left}.
+     * A {@code null} property cannot be copied onto a primitive property.
+     *
+     * @param left  The value being patched.
+     * @param right The value being copied from.
+     * @return {@code true} if at least one property was copied.
+     */
+    public boolean patch(final LEFT left, final RIGHT right) {
+        boolean patched = false;
+
+        for (Property<LEFT, RIGHT> property : properties) {
+            patched |= property.patch(left, right);
+        }
+        return patched;
+    }
+
+    /**
+     * Copies the differing properties of the right value of {@code match} onto its left value.
+     *
+     * @param match The paired values.
+     * @return {@code true} if at least one property was copied.
+     */
+    public boolean patch(final Match.Both<LEFT, RIGHT> match) {
+        return patch(match.left(), match.right());
+    }
+
+    /**
+     * Copies the differing properties of each of the {@code matches}; in parallel when the {@link Stream} is parallel.
+     * The left values must be distinct.
+     *
+     * @param matches The paired values, e.g. from {@link Changes#altered()}.
+     * @return The number of left values with at least one property copied.
+     */
+    public long patchAll(final Stream<Match.Both<LEFT, RIGHT>> matches) {
+        return matches.mapToLong(match -> patch(match) ? 1 : 0).sum();
+    }
+
+    private record Property<L, R>(
+            String name,
+            Function<Object, Object> source,
+            Function<Object, Object> target,
+            BiConsumer<Object, Object> writer
+    ) {
+
+        boolean differs(final L left, final R right) {
+            return !Objects.equals(target.apply(left), source.apply(right));
+        }
+
+        boolean patch(final L left, final R right) {
+            Object value = source.apply(right);
+
+            if (Objects.equals(target.apply(left), value)) {
+                return false;
+            }
+
+            writer.accept(left, value);
+            return true;
+        }
+    }
+
+    private static Map<String, Method> readable(final Class<?> type) {
+        Map<String, Method> readable = new TreeMap<>();
+
+        if (type.isRecord()) {
+            for (RecordComponent component : type.getRecordComponents()) {
+                readable.put(component.getName(), component.getAccessor());
+            }
+            return readable;
+        }
+
+        for (Method method : type.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers())
+                    || method.getParameterCount() != 0
+                    || method.getReturnType() == void.class
+                    || method.getDeclaringClass() == Object.class) {
+                continue;
+            }
+
+            String name = method.getName();
+            if (name.length() > 3 && name.startsWith("get")) {
+                readable.put(property(name.substring(3)), method);
+            } else if (name.length() > 2 && name.startsWith("is") && method.getReturnType() == boolean.class) {
+                readable.put(property(name.substring(2)), method);
+            }
+        }
+        return readable;
+    }
+
+    private static Map<String, Method> writable(final Class<?> type) {
+        Map<String, Method> writable = new TreeMap<>();
+
+        for (Method method : type.getMethods()) {
+            String name = method.getName();
+
+            if (!Modifier.isStatic(method.getModifiers())
+                    && method.getParameterCount() == 1
+                    && name.length() > 3
+                    && name.startsWith("set")) {
+                writable.put(property(name.substring(3)), method);
+            }
+        }
+        return writable;
+    }
+
+    private static String property(final String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static boolean assignable(final Class<?> to, final Class<?> from) {
+        return MethodType.methodType(to).wrap().returnType()
+                .isAssignableFrom(MethodType.methodType(from).wrap().returnType());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> getter(final MethodHandles.Lookup lookup, final Method method) {
+        try {
+            MethodHandle handle = lookup.unreflect(method);
+
+            if (!visible(lookup, handle.type())) {
+                MethodHandle invoker = handle.asType(MethodType.methodType(Object.class, Object.class));
+
+                return value -> {
+                    try {
+                        return invoker.invokeExact(value);
+                    } catch (RuntimeException | Error e) {
+                        throw e;
+                    } catch (Throwable e) {
+                        throw new IllegalStateException("Unable to invoke " + method, e);
+                    }
+                };
+            }
+
+            CallSite site = LambdaMetafactory.metafactory(
+                    lookup,
+                    "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    handle,
+                    handle.type().wrap()
+            );
+            return (Function<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalArgumentException("Unable to bind " + method, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> setter(final MethodHandles.Lookup lookup, final Method method) {
+        try {
+            MethodHandle handle = lookup.unreflect(method);
+
+            if (!visible(lookup, handle.type())) {
+                MethodHandle invoker = handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+
+                return (target, value) -> {
+                    try {
+                        invoker.invokeExact(target, value);
+                    } catch (RuntimeException | Error e) {
+                        throw e;
+                    } catch (Throwable e) {
+                        throw new IllegalStateException("Unable to invoke " + method, e);
+                    }
+                };
+            }
+
+            CallSite site = LambdaMetafactory.metafactory(
+                    lookup,
+                    "accept",
+                    MethodType.methodType(BiConsumer.class),
+                    MethodType.methodType(void.class, Object.class, Object.class),
+                    handle,
+                    handle.type().wrap().changeReturnType(void.class)
+            );
+            return (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalArgumentException("Unable to bind " + method, e);
+        }
+    }
+
+    /**
+     * A lambda bound through {@code lookup} is defined in the class loader of its lookup class, so it can only link to
+     * the types of {@code type} that the loader resolves to the same classes.
+     */
+    private static boolean visible(final MethodHandles.Lookup lookup, final MethodType type) {
+        ClassLoader loader = lookup.lookupClass().getClassLoader();
+
+        if (!visible(loader, type.returnType())) {
+            return false;
+        }
+        for (Class<?> parameter : type.parameterArray()) {
+            if (!visible(loader, parameter)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean visible(final ClassLoader loader, final Class<?> type) {
+        if (type.isPrimitive()) {
+            return true;
+        }
+
+        try {
+            return Class.forName(type.getName(), false, loader) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package change;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * The {@link ThreeWayMatch}es resolved by a {@link ThreeWayResolver}.
+ *
+ * @param <V> The type of the values.
+ */
+public final class ThreeWayChanges<V> {
+
+    private final Collection<ThreeWayMatch<V>> matches;
+
+    ThreeWayChanges(final Collection<ThreeWayMatch<V>> matches) {
+        this.matches = matches;
+    }
+
+    public Stream<ThreeWayMatch<V>> matches() {
+        return matches.stream();
+    }
+
+    public Stream<ThreeWayMatch<V>> matches(final ThreeWayMatch.Outcome outcome) {
+        return matches.stream().filter(match -> match.outcome() == outcome);
+    }
+
+    public Stream<ThreeWayMatch<V>> conflicts() {
+        return matches(ThreeWayMatch.Outcome.CONFLICT);
+    }
+
+    public boolean hasConflicts() {
+        return conflicts().findAny().isPresent();
+    }
+
+    /**
+     * @return The values after merging both states, excluding removed values.
+     * @throws IllegalStateException If the states conflict.
+     */
+    public Stream<V> merged() {
+        return matches.stream()
+                .map(ThreeWayMatch::merged)
+                .filter(Objects::nonNull);
+    }
+}
@@ -0,0 +1,50 @@
+package change;
+
+/**
+ * The values sharing an identifier in a base state and two states derived from it, and how they changed.  A value is
+ * {@code null} when absent from its state.
+ *
+ * @param outcome How the values changed.
+ * @param base    The value in the base state.
+ * @param ours    The value in our state.
+ * @param theirs  The value in their state.
+ * @param <V>     The type of the values.
+ */
+public record ThreeWayMatch<V>(Outcome outcome, V base, V ours, V theirs) {
+
+    public enum Outcome {
+        /**
+         * Neither state changed the base value.
+         */
+        UNCHANGED,
+        /**
+         * Only our state changed (added, altered or removed) the value.
+         */
+        OURS,
+        /**
+         * Only their state changed (added, altered or removed) the value.
+         */
+        THEIRS,
+        /**
+         * Both states changed the value in the same way.
+         */
+        BOTH,
+        /**
+         * Both states changed the value in different ways.
+         */
+        CONFLICT
+    }
+
+    /**
+     * @return The value after merging both states, or {@code null} if removed.
+     * @throws IllegalStateException If the states conflict.
+     */
+    public V merged() {
+        return switch (outcome) {
+            case UNCHANGED -> base;
+            case OURS, BOTH -> ours;
+            case THEIRS -> theirs;
+            case CONFLICT -> throw new IllegalStateException("Conflicting changes cannot be merged: " + this);
+        };
+    }
+}
@@ -0,0 +1,146 @@
+package change;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Resolves the changes made by two states (ours and theirs) derived from a common base state, e.g. edits made offline
+ * against a base version while the base version itself moved on.  The values of all three states are indexed by their
+ * identifiers in a single {@link java.util.Map}, and each identifier is then classified in a single pass.
+ *
+ * @param <V>  The type of the values.
+ * @param <ID> The type of the identifier.
+ */
+public class ThreeWayResolver<V, ID> {
+
+    /**
+     * Creates a {@code ThreeWayResolver} using the {@code toIdentifier} to identify each value.
+     *
+     * @param toIdentifier A {@link java.util.function.Function} to resolve the identifier of an instance of {@code X}.
+     * @param <X>          The type of the values being resolved.
+     * @param <I>          The type of the identifier.
+     * @return A {@link ThreeWayResolver} for types of {@code X}.
+     */
+    public static <X, I> ThreeWayResolver<X, I> of(final Function<X, I> toIdentifier) {
+        return new ThreeWayResolver<>(toIdentifier);
+    }
+
+    private final Function<V, ID> toIdentifier;
+
+    private ThreeWayResolver(final Function<V, ID> toIdentifier) {
+        this.toIdentifier = toIdentifier;
+    }
+
+    /**
+     * @param base   A {@link java.util.Collection} of the base values.
+     * @param ours   A {@link java.util.Collection} of our values.
+     * @param theirs A {@link java.util.Collection} of their values.
+     * @return The {@link ThreeWayChanges}, where values are changed unless equal.
+     */
+    public ThreeWayChanges<V> resolve(final Collection<V> base, final Collection<V> ours, final Collection<V> theirs) {
+        return resolve(base, ours, theirs, Changes::notEqual);
+    }
+
+    /**
+     * @param base      A {@link java.util.Collection} of the base values.
+     * @param ours      A {@link java.util.Collection} of our values.
+     * @param theirs    A {@link java.util.Collection} of their values.
+     * @param hasChange Decides whether two values sharing an identifier differ.
+     * @return The {@link ThreeWayChanges}.
+     */
+    public ThreeWayChanges<V> resolve(
+            final Collection<V> base,
+            final Collection<V> ours,
+            final Collection<V> theirs,
+            final BiFunction<V, V, Boolean> hasChange
+    ) {
+        Map<ID, States<V>> identified = HashMap.newHashMap(Math.max(base.size(), Math.max(ours.size(), theirs.size())));
+
+        for (V value : base) {
+            identified(identified, value).base(value);
+        }
+        for (V value : ours) {
+            identified(identified, value).ours(value);
+        }
+        for (V value : theirs) {
+            identified(identified, value).theirs(value);
+        }
+
+        List<ThreeWayMatch<V>> matches = new ArrayList<>(identified.size());
+
+        for (States<V> states : identified.values()) {
+            matches.add(new ThreeWayMatch<>(outcome(states, hasChange), states.base, states.ours, states.theirs));
+        }
+
+        return new ThreeWayChanges<>(matches);
+    }
+
+    private States<V> identified(final Map<ID, States<V>> identified, final V value) {
+        return identified.computeIfAbsent(toIdentifier.apply(value), States::new);
+    }
+
+    private ThreeWayMatch.Outcome outcome(final States<V> states, final BiFunction<V, V, Boolean> hasChange) {
+        boolean oursChanged = changed(states.base, states.ours, hasChange);
+        boolean theirsChanged = changed(states.base, states.theirs, hasChange);
+
+        if (!oursChanged && !theirsChanged) {
+            return ThreeWayMatch.Outcome.UNCHANGED;
+        } else if (!theirsChanged) {
+            return ThreeWayMatch.Outcome.OURS;
+        } else if (!oursChanged) {
+            return ThreeWayMatch.Outcome.THEIRS;
+        }
+        return changed(states.ours, states.theirs, hasChange)
+                ? ThreeWayMatch.Outcome.CONFLICT
+                : ThreeWayMatch.Outcome.BOTH;
+    }
+
+    private boolean changed(final V x, final V y, final BiFunction<V, V, Boolean> hasChange) {
+        if (x == null || y == null) {
+            return x != y;
+        }
+        return hasChange.apply(x, y);
+    }
+
+    /**
+     * The values of each state sharing an identifier.
+     */
+    private static final class States<V> {
+
+        private final Object identifier;
+
+        private V base;
+        private V ours;
+        private V theirs;
+
+        private States(final Object identifier) {
+            this.identifier = identifier;
+        }
+
+        private void base(final V value) {
+            if (base != null) {
+                throw new IllegalStateException("Duplicate key " + identifier);
+            }
+            base = value;
+        }
+
+        private void ours(final V value) {
+            if (ours != null) {
+                throw new IllegalStateException("Duplicate key " + identifier);
+            }
+            ours = value;
+        }
+
+        private void theirs(final V value) {
+            if (theirs != null) {
+                throw new IllegalStateException("Duplicate key " + identifier);
+            }
+            theirs = value;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package change;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The {@link ColumnResolver} merge using the Vector API to skip runs of unpaired identifiers: once two consecutive
+ * identifiers of one column precede the current identifier of the other column, the end of that run is found by
+ * comparing a vector of identifiers at a time.  Pairing, and writing every position, remain scalar, so this only pays
+ * off for columns with long runs of identifiers present on one side only.  Only loaded when the
+ * {@code jdk.incubator.vector} module is available.
+ */
+final class VectorColumnResolver {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    private VectorColumnResolver() {
+    }
+
+    static ColumnChanges merge(final long[] left, final long[] right) {
+        int[] onlyLeft = new int[left.length];
+        int[] onlyRight = new int[right.length];
+        int[] bothLeft = new int[Math.min(left.length, right.length)];
+        int[] bothRight = new int[bothLeft.length];
+
+        int l = 0, r = 0, removed = 0, added = 0, paired = 0;
+
+        while (l < left.length && r < right.length) {
+            long x = left[l];
+            long y = right[r];
+
+            if (x < y) {
+                int end = before(left, l + 1, y);
+                while (l < end) {
+                    onlyLeft[removed++] = l++;
+                }
+            } else if (x > y) {
+                int end = before(right, r + 1, x);
+                while (r < end) {
+                    onlyRight[added++] = r++;
+                }
+            } else {
+                bothLeft[paired] = l++;
+                bothRight[paired++] = r++;
+            }
+        }
+
+        while (l < left.length) {
+            onlyLeft[removed++] = l++;
+        }
+
+        while (r < right.length) {
+            onlyRight[added++] = r++;
+        }
+
+        return ColumnResolver.changes(onlyLeft, removed, onlyRight, added, bothLeft, bothRight, paired);
+    }
+
+    /**
+     * @return The position, from {@code from}, of the first identifier not less than {@code bound}.
+     */
+    private static int before(final long[] column, final int from, final long bound) {
+        int n = from;
+
+        if (n < column.length && column[n] < bound) {
+            int lanes = SPECIES.length();
+            int limit = column.length - lanes;
+
+            while (n <= limit) {
+                int less = LongVector.fromArray(SPECIES, column, n)
+                        .compare(VectorOperators.LT, bound)
+                        .trueCount();
+                n += less;
+
+                if (less < lanes) {
+                    return n;
+                }
+            }
+        }
+
+        while (n < column.length && column[n] < bound) {
+            n++;
+        }
+        return n;
+    }
+}
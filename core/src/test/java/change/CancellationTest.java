@@ -0,0 +1,46 @@
+package change;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CancellationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CancellationTest {
+
+    @Test
+    void should_be_cancelled_once_cancelled() {
+        Cancellation cancellation = Cancellation.token();
+
+        assertThat(cancellation.isCancelled()).isFalse();
+
+        cancellation.cancel();
+
+        assertThat(cancellation.isCancelled()).isTrue();
+        assertThatThrownBy(cancellation::check).isInstanceOf(CancellationException.class);
+    }
+
+    @Test
+    void should_be_cancelled_once_the_deadline_passes() {
+        assertThat(Cancellation.within(Duration.ofMinutes(1)).isCancelled()).isFalse();
+        assertThat(Cancellation.until(Instant.now().minusSeconds(1)).isCancelled()).isTrue();
+    }
+
+    @Test
+    void should_accept_deadlines_beyond_the_range_of_the_clock() {
+        assertThat(Cancellation.within(Duration.ofDays(365_000)).isCancelled()).isFalse();
+        assertThat(Cancellation.within(Duration.ofNanos(Long.MAX_VALUE - 1)).isCancelled()).isFalse();
+        assertThat(Cancellation.until(Instant.MAX).isCancelled()).isFalse();
+        assertThat(Cancellation.until(Instant.MIN).isCancelled()).isTrue();
+        assertThat(Cancellation.within(Duration.ofSeconds(Long.MIN_VALUE)).isCancelled()).isTrue();
+    }
+
+    @Test
+    void should_never_be_cancelled() {
+        assertThat(Cancellation.none().isCancelled()).isFalse();
+        assertThatThrownBy(() -> Cancellation.none().cancel()).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,86 @@
+package change;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChangeIndexTest {
+
+    @Test
+    void should_resolve_changes_against_the_indexed_values() {
+        // setup
+        List<Tuple<Integer, String>> original = List.of(new Tuple<>(1, "one"), new Tuple<>(2, "two"), new Tuple<>(3, "three"));
+
+        List<Tuple<Integer, String>> incoming = List.of(new Tuple<>(1, "one"), new Tuple<>(2, "too"), new Tuple<>(4, "four"));
+
+        //  execute
+        ChangeIndex<Tuple<Integer, String>, Tuple<Integer, String>, Integer> index = ChangeResolver.<Tuple<Integer, String>, Integer>ofSameType(Tuple::x)
+                .index(original);
+
+        Changes<Tuple<Integer, String>, Tuple<Integer, String>> changes = index.resolve(incoming);
+
+        //  verify
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(changes.added()).containsExactly(new Tuple<>(4, "four"));
+        assertThat(changes.removed()).containsExactly(new Tuple<>(3, "three"));
+        assertThat(changes.altered()).containsExactly(new Match.Both<>(new Tuple<>(2, "two"), new Tuple<>(2, "too")));
+    }
+
+    @Test
+    void should_resolve_each_incoming_collection_against_the_same_index() {
+        // setup
+        List<Integer> original = IntStream.range(0, 100_000).boxed().toList();
+
+        List<List<Integer>> incoming = IntStream.range(1, 9)
+                .mapToObj(tenant -> IntStream.range(0, 100_000 + tenant).filter(n -> n % tenant == 0).boxed().toList())
+                .toList();
+
+        ChangeResolver<Integer, Integer, Integer> resolver = ChangeResolver.simple();
+
+        //  execute
+        List<Changes<Integer, Integer>> actual = resolver.index(original).resolveAll(incoming);
+
+        //  verify
+        assertThat(actual).hasSize(incoming.size());
+        for (int tenant = 0; tenant < incoming.size(); tenant++) {
+            Changes<Integer, Integer> expected = resolver.resolve(original, incoming.get(tenant));
+
+            assertThat(actual.get(tenant).added()).containsExactlyInAnyOrderElementsOf(expected.added().toList());
+            assertThat(actual.get(tenant).removed()).containsExactlyInAnyOrderElementsOf(expected.removed().toList());
+        }
+    }
+
+    @Test
+    void should_reject_duplicate_identifiers() {
+        ChangeResolver<String, String, String> resolver = ChangeResolver.simple();
+
+        assertThatThrownBy(() -> resolver.index(List.of("one", "one"))).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> resolver.index(List.of("one")).resolve(List.of("two", "two"))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void should_index_a_null_identifier_at_any_size() {
+        for (int size : new int[]{10, 100_000}) {
+            // setup
+            List<Tuple<Integer, String>> original = IntStream.range(0, size)
+                    .mapToObj(n -> new Tuple<>(n == 0 ? null : n, "v1"))
+                    .toList();
+
+            List<Tuple<Integer, String>> incoming = List.of(new Tuple<>(null, "v2"));
+
+            //  execute
+            Changes<Tuple<Integer, String>, Tuple<Integer, String>> changes = ChangeResolver.<Tuple<Integer, String>, Integer>ofSameType(Tuple::x)
+                    .index(original)
+                    .resolve(incoming);
+
+            //  verify
+            assertThat(changes.altered()).containsExactly(new Match.Both<>(new Tuple<>(null, "v1"), new Tuple<>(null, "v2")));
+            assertThat(changes.removed()).hasSize(size - 1);
+            assertThat(changes.added()).isEmpty();
+        }
+    }
+}
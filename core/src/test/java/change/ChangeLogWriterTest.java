@@ -0,0 +1,198 @@
+package change;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChangeLogWriterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void should_replay_appended_changes() {
+        // setup
+        Changes<String, String> changes = new Changes<>(List.of(
+                new Match.OnlyRight<>("one"),
+                new Match.Both<>("two", "two"),
+                new Match.Both<>("X", "Y"),
+                new Match.OnlyLeft<>("three")
+        ));
+
+        //  execute
+        try (ChangeLogWriter<String, String> writer = ChangeLogWriter.open(directory, ChangeLogCodec.strings(), ChangeLogCodec.strings())) {
+            writer.append(changes);
+        }
+
+        RecordingHandler handler = new RecordingHandler();
+
+        long actual = ChangeLogReader.of(directory, ChangeLogCodec.strings(), ChangeLogCodec.strings())
+                .replay(handler);
+
+        //  verify
+        assertThat(actual).isEqualTo(3);
+        assertThat(handler.events).containsExactly("removed three", "added one", "altered X Y");
+    }
+
+    @Test
+    void should_roll_segments_and_replay_them_in_order() throws IOException {
+        // setup
+        int count = 1_000;
+
+        //  execute
+        try (ChangeLogWriter<Long, String> writer = ChangeLogWriter.open(directory, ChangeLogCodec.longs(), ChangeLogCodec.strings(), 256, 10)) {
+            IntStream.range(0, count).forEach(n -> writer.altered((long) n, String.valueOf(n)));
+        }
+
+        List<String> events = new ArrayList<>();
+
+        long actual = ChangeLogReader.of(directory, ChangeLogCodec.longs(), ChangeLogCodec.strings())
+                .replay(new ChangeHandler<>() {
+                    @Override
+                    public void added(final String right) {
+                        events.add("added " + right);
+                    }
+
+                    @Override
+                    public void removed(final Long left) {
+                        events.add("removed " + left);
+                    }
+
+                    @Override
+                    public void altered(final Long left, final String right) {
+                        events.add(left + " " + right);
+                    }
+                });
+
+        //  verify
+        assertThat(actual).isEqualTo(count);
+        assertThat(events).containsExactlyElementsOf(IntStream.range(0, count).mapToObj(n -> n + " " + n).toList());
+        assertThat(ChangeLogWriter.segments(directory)).hasSizeGreaterThan(1);
+    }
+
+    @Test
+    void should_append_to_a_new_segment_when_reopened() throws IOException {
+        //  execute
+        try (ChangeLogWriter<String, String> writer = ChangeLogWriter.open(directory, ChangeLogCodec.strings(), ChangeLogCodec.strings())) {
+            writer.added("one");
+        }
+        try (ChangeLogWriter<String, String> writer = ChangeLogWriter.open(directory, ChangeLogCodec.strings(), ChangeLogCodec.strings())) {
+            writer.added("two");
+        }
+
+        RecordingHandler handler = new RecordingHandler();
+
+        ChangeLogReader.of(directory, ChangeLogCodec.strings(), ChangeLogCodec.strings())
+                .replay(handler);
+
+        //  verify
+        assertThat(ChangeLogWriter.segments(directory)).hasSize(2);
+        assertThat(handler.events).containsExactly("added one", "added two");
+    }
+
+    @Test
+    void should_replay_rekeyed_changes() {
+        // setup
+        Changes<String, String> changes = new Changes<String, String>(List.of(
+                new Match.OnlyLeft<>("one"),
+                new Match.OnlyRight<>("ONE")
+        )).detectRekeyed(String::toLowerCase, String::toLowerCase);
+
+        //  execute
+        try (ChangeLogWriter<String, String> writer = ChangeLogWriter.open(directory, ChangeLogCodec.strings(), ChangeLogCodec.strings())) {
+            writer.append(changes);
+        }
+
+        RecordingHandler handler = new RecordingHandler();
+
+        long actual = ChangeLogReader.of(directory, ChangeLogCodec.strings(), ChangeLogCodec.strings())
+                .replay(handler);
+
+        //  verify
+        assertThat(actual).isEqualTo(1);
+        assertThat(handler.events).containsExactly("rekeyed one ONE");
+    }
+
+    @Test
+    void should_discard_a_record_its_codec_fails_to_encode() {
+        // setup
+        ChangeLogCodec<String> failing = new ChangeLogCodec<>() {
+            @Override
+            public void encode(final String value, final ByteBuffer buffer) {
+                if (value.equals("bad")) {
+                    //  leave non-zero bytes behind before failing
+                    byte[] partial = new byte[100];
+                    Arrays.fill(partial, (byte) 1);
+                    buffer.put(partial);
+                    throw new IllegalArgumentException("Unable to encode " + value);
+                }
+                ChangeLogCodec.strings().encode(value, buffer);
+            }
+
+            @Override
+            public String decode(final ByteBuffer buffer) {
+                return ChangeLogCodec.strings().decode(buffer);
+            }
+        };
+
+        //  execute
+        try (ChangeLogWriter<String, String> writer = ChangeLogWriter.open(directory, failing, failing)) {
+            writer.added("one");
+            assertThatThrownBy(() -> writer.added("bad")).isInstanceOf(IllegalArgumentException.class);
+            writer.added("two");
+            writer.added("three");
+        }
+
+        RecordingHandler handler = new RecordingHandler();
+
+        long actual = ChangeLogReader.of(directory, ChangeLogCodec.strings(), ChangeLogCodec.strings())
+                .replay(handler);
+
+        //  verify
+        assertThat(actual).isEqualTo(3);
+        assertThat(handler.events).containsExactly("added one", "added two", "added three");
+    }
+
+    @Test
+    void should_reject_records_larger_than_a_segment() {
+        try (ChangeLogWriter<String, String> writer = ChangeLogWriter.open(directory, ChangeLogCodec.strings(), ChangeLogCodec.strings(), 16, 0)) {
+            assertThatThrownBy(() -> writer.added("a value longer than a segment"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static class RecordingHandler implements ChangeHandler<String, String> {
+
+        final List<String> events = new ArrayList<>();
+
+        @Override
+        public void added(final String right) {
+            events.add("added " + right);
+        }
+
+        @Override
+        public void removed(final String left) {
+            events.add("removed " + left);
+        }
+
+        @Override
+        public void altered(final String left, final String right) {
+            events.add("altered " + left + " " + right);
+        }
+
+        @Override
+        public void rekeyed(final String left, final String right) {
+            events.add("rekeyed " + left + " " + right);
+        }
+    }
+}
@@ -2,13 +2,26 @@ package change;
 
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 class ChangeResolverTest {
@@ -221,4 +234,414 @@ class ChangeResolverTest {
                 );
     }
 
-}
\ No newline at end of file
+
+    @Test
+    void should_not_have_changes_for_equal_values() {
+        // setup
+        List<String> original = List.of("one", "two", "three");
+
+        List<String> incoming = List.of("three", "two", "one");
+
+        //  execute
+        ChangeResolver<String, String, String> resolver = ChangeResolver.simple();
+
+        //  verify
+        assertThat(resolver.hasChanges(original, incoming)).isFalse();
+        assertThat(resolver.anyAdded(original, incoming)).isFalse();
+        assertThat(resolver.anyRemoved(original, incoming)).isFalse();
+        assertThat(resolver.anyAltered(original, incoming)).isFalse();
+    }
+
+    @Test
+    void should_have_changes_for_altered_values() {
+        //  setup
+        List<Tuple<Integer, String>> original = List.of(new Tuple<>(1, "one"), new Tuple<>(2, "two"));
+
+        List<Tuple<Integer, String>> incoming = List.of(new Tuple<>(1, "one"), new Tuple<>(2, "too"));
+
+        //  execute
+        ChangeResolver<Tuple<Integer, String>, Tuple<Integer, String>, Integer> resolver = ChangeResolver.ofSameType(Tuple::x);
+
+        //  verify
+        assertThat(resolver.hasChanges(original, incoming)).isTrue();
+        assertThat(resolver.hasChanges(original, incoming, (left, right) -> !left.x().equals(right.x()))).isFalse();
+        assertThat(resolver.anyAltered(original, incoming)).isTrue();
+        assertThat(resolver.anyAdded(original, incoming)).isFalse();
+        assertThat(resolver.anyRemoved(original, incoming)).isFalse();
+    }
+
+    @Test
+    void should_have_changes_for_added_and_removed_values() {
+        // setup
+        List<String> original = List.of("one", "two", "three");
+
+        List<String> incoming = List.of("one", "two", "four");
+
+        //  execute
+        ChangeResolver<String, String, String> resolver = ChangeResolver.simple();
+
+        //  verify
+        assertThat(resolver.hasChanges(original, incoming)).isTrue();
+        assertThat(resolver.anyAdded(original, incoming)).isTrue();
+        assertThat(resolver.anyRemoved(original, incoming)).isTrue();
+        assertThat(resolver.anyAltered(original, incoming)).isFalse();
+    }
+
+    @Test
+    void should_stop_resolving_once_the_first_addition_is_found() {
+        // setup
+        List<Integer> original = List.of(2, 3, 4, 5, 6, 7, 8, 9);
+
+        List<Integer> incoming = List.of(1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+        AtomicInteger identified = new AtomicInteger();
+
+        //  execute
+        boolean actual = ChangeResolver.<Integer, Integer, Integer>ofDifferingTypes(Function.identity(), value -> {
+                    identified.incrementAndGet();
+                    return value;
+                })
+                .using(ChangeResolver.Strategy.HASH)
+                .added(original, incoming)
+                .findFirst()
+                .isPresent();
+
+        //  verify
+        assertThat(actual).isTrue();
+        assertThat(identified).hasValue(1);
+    }
+
+    @Test
+    void should_limit_resolved_matches_of_each_kind() {
+        // setup
+        List<Integer> original = List.of(1, 2, 3, 4, 5, 6);
+
+        List<Integer> incoming = List.of(4, 5, 6, 7, 8, 9);
+
+        //  execute
+        Changes<Integer, Integer> changes = ChangeResolver.<Integer>simple()
+                .resolve(original, incoming, 2);
+
+        //  verify
+        assertThat(changes.added()).hasSize(2).isSubsetOf(7, 8, 9);
+        assertThat(changes.removed()).hasSize(2).isSubsetOf(1, 2, 3);
+        assertThat(changes.altered()).isEmpty();
+    }
+
+
+    @Test
+    void should_select_a_strategy_from_the_input_collections() {
+        // setup
+        List<ChangeResolver.Strategy> selected = new ArrayList<>();
+
+        ChangeResolver<Integer, Integer, Integer> resolver = ChangeResolver.<Integer>simple()
+                .observing(selected::add);
+
+        List<Integer> tiny = List.of(3, 1, 2);
+
+        TreeSet<Integer> sorted = IntStream.range(0, 100).boxed().collect(TreeSet::new, TreeSet::add, TreeSet::addAll);
+
+        List<Integer> unsorted = IntStream.range(0, 100).map(n -> 99 - n).boxed().toList();
+
+        //  execute
+        resolver.resolve(tiny, tiny);
+        resolver.resolve(sorted, sorted);
+        resolver.resolve(unsorted, sorted);
+
+        //  verify
+        assertThat(selected).containsExactly(
+                ChangeResolver.Strategy.LINEAR,
+                ChangeResolver.Strategy.MERGE,
+                ChangeResolver.Strategy.HASH
+        );
+    }
+
+    @Test
+    void should_not_merge_identifiers_whose_ordering_is_inconsistent_with_equals() {
+        // setup
+        List<ChangeResolver.Strategy> selected = new ArrayList<>();
+
+        TreeSet<BigDecimal> original = IntStream.range(0, 20)
+                .mapToObj(n -> new BigDecimal(n + ".0"))
+                .collect(TreeSet::new, TreeSet::add, TreeSet::addAll);
+
+        TreeSet<BigDecimal> incoming = IntStream.range(0, 20)
+                .mapToObj(n -> new BigDecimal(n + ".00"))
+                .collect(TreeSet::new, TreeSet::add, TreeSet::addAll);
+
+        //  execute
+        Changes<BigDecimal, BigDecimal> changes = ChangeResolver.<BigDecimal>simple()
+                .observing(selected::add)
+                .resolve(original, incoming);
+
+        //  verify
+        assertThat(selected).containsExactly(ChangeResolver.Strategy.HASH);
+        assertThat(changes.added()).hasSize(20);
+        assertThat(changes.removed()).hasSize(20);
+        assertThat(changes.altered()).isEmpty();
+    }
+
+    @Test
+    void should_reject_observing_a_provided_resolver() {
+        ChangeResolver<String, String, String> resolver = new ChangeResolver<>(new DefaultMatchResolver<>(Function.identity(), Function.identity()));
+
+        assertThatThrownBy(() -> resolver.observing(strategy -> {})).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void should_select_a_strategy_without_visiting_the_values() {
+        // setup
+        List<ChangeResolver.Strategy> selected = new ArrayList<>();
+
+        AtomicInteger identified = new AtomicInteger();
+
+        List<Integer> original = IntStream.range(1, 100_001).boxed().toList();
+
+        List<Integer> incoming = IntStream.range(0, 100_000).boxed().toList();
+
+        //  execute
+        boolean actual = ChangeResolver.<Integer, Integer>ofSameType(value -> {
+                    identified.incrementAndGet();
+                    return value;
+                })
+                .observing(selected::add)
+                .anyAdded(original, incoming);
+
+        //  verify
+        assertThat(actual).isTrue();
+        assertThat(selected).containsExactly(ChangeResolver.Strategy.HASH);
+        assertThat(identified.get()).isLessThan(original.size() + 10);
+    }
+
+    @Test
+    void should_resolve_the_same_changes_using_any_strategy() {
+        // setup
+        List<Integer> original = IntStream.range(0, 50).filter(n -> n % 2 == 0).boxed().toList();
+
+        List<Integer> incoming = IntStream.range(0, 50).filter(n -> n % 3 == 0).boxed().toList();
+
+        for (ChangeResolver.Strategy strategy : ChangeResolver.Strategy.values()) {
+            List<ChangeResolver.Strategy> selected = new ArrayList<>();
+
+            //  execute
+            Changes<Integer, Integer> changes = ChangeResolver.<Integer>simple()
+                    .using(strategy)
+                    .observing(selected::add)
+                    .resolve(original, incoming);
+
+            //  verify
+            assertThat(selected).containsExactly(strategy);
+            assertThat(changes.added()).containsExactlyInAnyOrder(3, 9, 15, 21, 27, 33, 39, 45);
+            assertThat(changes.removed()).hasSize(16).doesNotContain(0, 6, 12, 18, 24, 30, 36, 42, 48);
+            assertThat(changes.altered()).isEmpty();
+        }
+    }
+
+
+    @Test
+    void should_resolve_null_identifiers_in_the_first_shard() {
+        // setup
+        List<Tuple<Integer, String>> original = List.of(new Tuple<>(null, "old"), new Tuple<>(1, "one"));
+
+        List<Tuple<Integer, String>> incoming = List.of(new Tuple<>(null, "new"), new Tuple<>(1, "one"));
+
+        ChangeResolver<Tuple<Integer, String>, Tuple<Integer, String>, Integer> resolver = ChangeResolver.ofSameType(Tuple::x);
+
+        //  execute
+        Changes<Tuple<Integer, String>, Tuple<Integer, String>> actual = resolver.resolveShard(original, incoming, 0, 4);
+
+        //  verify
+        assertThat(ChangeResolver.shardOf(null, 4)).isZero();
+        assertThat(actual.altered()).containsExactly(new Match.Both<>(new Tuple<>(null, "old"), new Tuple<>(null, "new")));
+    }
+
+    @Test
+    void should_merge_shards_resolved_independently_into_the_same_changes() throws Exception {
+        //  setup
+        List<Tuple<Integer, String>> original = IntStream.range(0, 1_000)
+                .filter(n -> n % 2 == 0)
+                .mapToObj(n -> new Tuple<>(n, String.valueOf(n)))
+                .toList();
+
+        List<Tuple<Integer, String>> incoming = IntStream.range(0, 1_000)
+                .filter(n -> n % 3 == 0)
+                .mapToObj(n -> new Tuple<>(n, n % 4 == 0 ? "altered" : String.valueOf(n)))
+                .toList();
+
+        ChangeResolver<Tuple<Integer, String>, Tuple<Integer, String>, Integer> resolver = ChangeResolver.ofSameType(Tuple::x);
+
+        int shards = 4;
+
+        //  execute
+        List<Changes<Tuple<Integer, String>, Tuple<Integer, String>>> resolved = new ArrayList<>();
+
+        try (ExecutorService nodes = Executors.newFixedThreadPool(shards)) {
+            List<Future<Changes<Tuple<Integer, String>, Tuple<Integer, String>>>> futures = new ArrayList<>();
+            for (int shard = 0; shard < shards; shard++) {
+                int node = shard;
+                futures.add(nodes.submit(() -> resolver.resolveShard(original, incoming, node, shards)));
+            }
+            for (Future<Changes<Tuple<Integer, String>, Tuple<Integer, String>>> future : futures) {
+                resolved.add(future.get());
+            }
+        }
+
+        Changes<Tuple<Integer, String>, Tuple<Integer, String>> actual = Changes.merge(resolved);
+
+        //  verify
+        Changes<Tuple<Integer, String>, Tuple<Integer, String>> expected = resolver.resolve(original, incoming);
+
+        assertThat(resolved).allSatisfy(shard -> assertThat(shard.added()).isNotEmpty());
+        assertThat(actual.added()).containsExactlyInAnyOrderElementsOf(expected.added().toList());
+        assertThat(actual.removed()).containsExactlyInAnyOrderElementsOf(expected.removed().toList());
+        assertThat(actual.altered()).containsExactlyInAnyOrderElementsOf(expected.altered().toList());
+    }
+
+
+    @Test
+    void should_resolve_completely_unless_cancelled() {
+        // setup
+        List<String> original = List.of("one", "two", "three");
+
+        List<String> incoming = List.of("one", "four");
+
+        //  execute
+        Changes<String, String> changes = ChangeResolver.<String>simple()
+                .resolvePartially(original, incoming, Cancellation.within(Duration.ofMinutes(1)));
+
+        //  verify
+        assertThat(changes.isComplete()).isTrue();
+        assertThat(changes.added()).containsExactly("four");
+        assertThat(changes.removed()).containsExactlyInAnyOrder("two", "three");
+    }
+
+    @Test
+    void should_abort_resolution_once_cancelled() {
+        // setup
+        List<Integer> original = IntStream.range(0, 100_000).boxed().toList();
+
+        List<Integer> incoming = IntStream.range(0, 100_000).map(n -> 99_999 - n).boxed().toList();
+
+        Cancellation cancellation = Cancellation.token();
+
+        ChangeResolver<Integer, Integer, Integer> resolver = ChangeResolver.<Integer, Integer, Integer>ofDifferingTypes(Function.identity(), value -> {
+            if (value == 50_000) {
+                cancellation.cancel();
+            }
+            return value;
+        });
+
+        //  verify
+        assertThatThrownBy(() -> resolver.resolve(original, incoming, cancellation))
+                .isInstanceOf(CancellationException.class);
+    }
+
+    @Test
+    void should_return_partial_changes_once_cancelled() {
+        // setup
+        List<Integer> original = IntStream.range(0, 100_000).boxed().toList();
+
+        List<Integer> incoming = IntStream.range(0, 100_000).map(n -> 199_999 - n).boxed().toList();
+
+        Cancellation cancellation = Cancellation.token();
+
+        ChangeResolver<Integer, Integer, Integer> resolver = ChangeResolver.<Integer, Integer, Integer>ofDifferingTypes(Function.identity(), value -> {
+            if (value == 150_000) {
+                cancellation.cancel();
+            }
+            return value;
+        });
+
+        //  execute
+        Changes<Integer, Integer> changes = resolver.resolvePartially(original, incoming, cancellation);
+
+        //  verify
+        assertThat(changes.isComplete()).isFalse();
+        assertThat(changes.added().count()).isBetween(50_000L, 50_000L + Cancellation.CHECK_INTERVAL);
+        assertThat(changes.removed()).isEmpty();
+    }
+
+    @Test
+    void should_return_no_changes_when_cancelled_while_indexing() {
+        // setup
+        List<Integer> original = IntStream.range(0, 100_000).map(n -> 99_999 - n).boxed().toList();
+
+        Cancellation cancellation = Cancellation.token();
+        cancellation.cancel();
+
+        //  execute
+        Changes<Integer, Integer> changes = ChangeResolver.<Integer>simple()
+                .resolvePartially(original, original, cancellation);
+
+        //  verify
+        assertThat(changes.isComplete()).isFalse();
+        assertThat(changes.added()).isEmpty();
+        assertThat(changes.removed()).isEmpty();
+        assertThat(changes.altered()).isEmpty();
+    }
+
+    @Test
+    void should_resolve_only_the_changes_within_a_range() {
+        // setup
+        TreeMap<Integer, Tuple<Integer, String>> original = new TreeMap<>();
+        TreeMap<Integer, Tuple<Integer, String>> incoming = new TreeMap<>();
+        IntStream.range(0, 10).forEach(n -> original.put(n, new Tuple<>(n, "v1")));
+        IntStream.range(2, 12).forEach(n -> incoming.put(n, new Tuple<>(n, n == 5 ? "v2" : "v1")));
+
+        //  execute
+        Changes<Tuple<Integer, String>, Tuple<Integer, String>> changes = ChangeResolver.<Tuple<Integer, String>, Integer>ofSameType(Tuple::x)
+                .resolveRange(original, incoming, 1, 11);
+
+        //  verify
+        assertAll(
+                () -> assertThat(changes.removed()).containsExactly(new Tuple<>(1, "v1")),
+                () -> assertThat(changes.added()).containsExactly(new Tuple<>(10, "v1")),
+                () -> assertThat(changes.altered()).containsExactly(new Match.Both<>(new Tuple<>(5, "v1"), new Tuple<>(5, "v2")))
+        );
+    }
+
+    @Test
+    void should_resolve_a_range_in_the_order_of_the_maps() {
+        // setup
+        TreeMap<String, String> original = new TreeMap<>(Comparator.reverseOrder());
+        TreeMap<String, String> incoming = new TreeMap<>(Comparator.reverseOrder());
+        Stream.of("a", "b", "c", "d").forEach(value -> original.put(value, value));
+        Stream.of("b", "c", "d", "e").forEach(value -> incoming.put(value, value));
+
+        //  execute
+        Changes<String, String> changes = ChangeResolver.<String>simple()
+                .resolveRange(original, incoming, "e", true, "a", true);
+
+        //  verify
+        assertAll(
+                () -> assertThat(changes.removed()).containsExactly("a"),
+                () -> assertThat(changes.added()).containsExactly("e"),
+                () -> assertThat(changes.altered()).isEmpty()
+        );
+    }
+
+    @Test
+    void should_only_visit_the_values_within_a_range() {
+        // setup
+        AtomicInteger comparisons = new AtomicInteger();
+        Comparator<Integer> counting = (x, y) -> {
+            comparisons.incrementAndGet();
+            return Integer.compare(x, y);
+        };
+
+        TreeMap<Integer, Integer> original = new TreeMap<>(counting);
+        TreeMap<Integer, Integer> incoming = new TreeMap<>(counting);
+        IntStream.range(0, 100_000).forEach(n -> original.put(n, n));
+        IntStream.range(0, 100_000).map(n -> n + 5).forEach(n -> incoming.put(n, n));
+        comparisons.set(0);
+
+        //  execute
+        Changes<Integer, Integer> changes = ChangeResolver.<Integer>simple()
+                .resolveRange(original, incoming, 50_000, 50_010);
+
+        //  verify
+        assertThat(changes.altered(Objects::equals)).hasSize(10);
+        assertThat(comparisons.get()).isLessThan(200);
+    }
+
+}
@@ -2,6 +2,12 @@ package change;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -159,4 +165,150 @@ class ChangesTest {
         assertThat(actual).isEmpty();
     }
 
-}
\ No newline at end of file
+
+    @Test
+    void should_merge_changes_of_each_shard() {
+        Changes<String, String> first = new Changes<>(List.of(
+                new Match.OnlyRight<>("one"),
+                new Match.Both<>("X", "Y")
+        ));
+
+        Changes<String, String> second = new Changes<>(List.of(
+                new Match.OnlyLeft<>("three"),
+                new Match.OnlyRight<>("nine")
+        ));
+
+        Changes<String, String> actual = Changes.merge(List.of(first, second));
+
+        assertThat(actual.added()).containsExactly("one", "nine");
+        assertThat(actual.removed()).containsExactly("three");
+        assertThat(actual.altered()).containsExactly(new Match.Both<>("X", "Y"));
+    }
+
+    @Test
+    void should_serialize_changes() throws IOException, ClassNotFoundException {
+        Changes<String, String> changes = new Changes<>(List.of(
+                new Match.OnlyRight<>("one"),
+                new Match.Both<>("X", "Y"),
+                new Match.OnlyLeft<>("three")
+        ));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(changes);
+        }
+
+        @SuppressWarnings("unchecked")
+        Changes<String, String> actual = (Changes<String, String>) new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))
+                .readObject();
+
+        assertThat(actual.added()).containsExactly("one");
+        assertThat(actual.removed()).containsExactly("three");
+        assertThat(actual.altered()).containsExactly(new Match.Both<>("X", "Y"));
+    }
+
+    @Test
+    void should_pair_removals_and_additions_with_the_same_fingerprint_as_rekeyed() {
+        // setup
+        Changes<Tuple<String, String>, Tuple<String, String>> changes = new Changes<>(List.of(
+                new Match.OnlyLeft<>(new Tuple<>("1", "one")),
+                new Match.OnlyLeft<>(new Tuple<>("2", "two")),
+                new Match.OnlyRight<>(new Tuple<>("11", "one")),
+                new Match.OnlyRight<>(new Tuple<>("3", "three"))
+        ));
+
+        //  execute
+        Changes<Tuple<String, String>, Tuple<String, String>> actual = changes.detectRekeyed(Tuple::y, Tuple::y);
+
+        //  verify
+        assertAll(
+                () -> assertThat(actual.rekeyed()).containsExactly(new Match.Both<>(new Tuple<>("1", "one"), new Tuple<>("11", "one"))),
+                () -> assertThat(actual.removed()).containsExactly(new Tuple<>("2", "two")),
+                () -> assertThat(actual.added()).containsExactly(new Tuple<>("3", "three")),
+                () -> assertThat(actual.isComplete()).isTrue()
+        );
+    }
+
+    @Test
+    void should_not_pair_ambiguous_fingerprints_as_rekeyed() {
+        // setup
+        Changes<Tuple<String, String>, Tuple<String, String>> changes = new Changes<>(List.of(
+                new Match.OnlyLeft<>(new Tuple<>("1", "one")),
+                new Match.OnlyLeft<>(new Tuple<>("2", "one")),
+                new Match.OnlyLeft<>(new Tuple<>("3", "one")),
+                new Match.OnlyRight<>(new Tuple<>("11", "one")),
+                new Match.OnlyLeft<>(new Tuple<>("4", "four")),
+                new Match.OnlyRight<>(new Tuple<>("14", "four")),
+                new Match.OnlyRight<>(new Tuple<>("24", "four"))
+        ));
+
+        //  execute
+        Changes<Tuple<String, String>, Tuple<String, String>> actual = changes.detectRekeyed(Tuple::y, Tuple::y);
+
+        //  verify
+        assertAll(
+                () -> assertThat(actual.rekeyed()).isEmpty(),
+                () -> assertThat(actual.removed()).hasSize(4),
+                () -> assertThat(actual.added()).hasSize(3)
+        );
+    }
+
+    @Test
+    void should_pass_rekeyed_pairs_to_the_handler_as_removal_and_addition_by_default() {
+        // setup
+        Changes<String, String> changes = new Changes<String, String>(List.of(
+                new Match.OnlyLeft<>("one"),
+                new Match.OnlyRight<>("ONE")
+        )).detectRekeyed(String::toLowerCase, String::toLowerCase);
+
+        List<String> events = new ArrayList<>();
+
+        //  execute
+        changes.forEach(new ChangeHandler<>() {
+            @Override
+            public void added(final String right) {
+                events.add("added " + right);
+            }
+
+            @Override
+            public void removed(final String left) {
+                events.add("removed " + left);
+            }
+
+            @Override
+            public void altered(final String left, final String right) {
+                events.add("altered " + left + " " + right);
+            }
+        });
+
+        //  verify
+        assertThat(events).containsExactly("removed one", "added ONE");
+    }
+
+    @Test
+    void should_serialize_and_merge_rekeyed_pairs() throws IOException, ClassNotFoundException {
+        // setup
+        Changes<String, String> changes = new Changes<String, String>(List.of(
+                new Match.OnlyLeft<>("one"),
+                new Match.OnlyRight<>("ONE")
+        )).detectRekeyed(String::toLowerCase, String::toLowerCase);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(changes);
+        }
+
+        //  execute
+        @SuppressWarnings("unchecked")
+        Changes<String, String> deserialized = (Changes<String, String>) new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))
+                .readObject();
+
+        Changes<String, String> actual = Changes.merge(List.of(deserialized, changes));
+
+        //  verify
+        assertThat(actual.rekeyed()).containsExactly(new Match.Both<>("one", "ONE"), new Match.Both<>("one", "ONE"));
+        assertThat(actual.removed()).isEmpty();
+        assertThat(actual.added()).isEmpty();
+    }
+
+}
@@ -0,0 +1,115 @@
+package change;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ColumnResolverTest {
+
+    //  long runs of unpaired identifiers on either side, with some interleaving
+    private static final long[] ORIGINAL = column(new Random(42), 1);
+
+    private static final long[] INCOMING = column(new Random(43), 2);
+
+    @Test
+    void should_return_positions_of_only_left_only_right_and_both_identifiers() {
+        // setup
+        long[] original = {1, 3, 5, 7, 9};
+
+        long[] incoming = {2, 3, 4, 9, 10, 11};
+
+        //  execute
+        ColumnChanges actual = ColumnResolver.resolve(original, incoming);
+
+        //  verify
+        assertThat(actual).isEqualTo(new ColumnChanges(new int[]{0, 2, 3}, new int[]{0, 2, 4, 5}, new int[]{1, 4}, new int[]{1, 3}));
+    }
+
+    @Test
+    void should_resolve_empty_columns() {
+        //  execute
+        ColumnChanges actual = ColumnResolver.resolve(new long[0], new long[]{1, 2});
+
+        //  verify
+        assertThat(actual).isEqualTo(new ColumnChanges(new int[0], new int[]{0, 1}, new int[0], new int[0]));
+    }
+
+    @Test
+    void should_reject_columns_not_in_strictly_ascending_order() {
+        assertThatThrownBy(() -> ColumnResolver.resolve(new long[]{1, 2, 2}, new long[]{1}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_resolve_the_same_positions_with_the_scalar_merge_as_a_lookup() {
+        //  execute
+        ColumnChanges actual = ColumnResolver.merge(ORIGINAL, INCOMING);
+
+        //  verify
+        assertThat(actual).isEqualTo(lookup(ORIGINAL, INCOMING));
+    }
+
+    @Test
+    void should_resolve_the_same_positions_with_the_vector_merge_as_a_lookup() {
+        assumeTrue(ColumnResolver.isVectorized(), "jdk.incubator.vector is not in the boot layer");
+
+        //  execute
+        ColumnChanges actual = VectorColumnResolver.merge(ORIGINAL, INCOMING);
+
+        //  verify
+        assertThat(actual).isEqualTo(lookup(ORIGINAL, INCOMING));
+    }
+
+    @Test
+    void should_compare_changes_by_their_positions() {
+        ColumnChanges changes = new ColumnChanges(new int[]{0}, new int[]{1}, new int[]{2}, new int[]{3});
+        ColumnChanges same = new ColumnChanges(new int[]{0}, new int[]{1}, new int[]{2}, new int[]{3});
+
+        assertThat(changes).isEqualTo(same).hasSameHashCodeAs(same);
+        assertThat(changes).isNotEqualTo(new ColumnChanges(new int[]{0}, new int[]{1}, new int[]{2}, new int[]{4}));
+        assertThat(changes).hasToString("ColumnChanges[onlyLeft=[0], onlyRight=[1], bothLeft=[2], bothRight=[3]]");
+    }
+
+    private static long[] column(final Random random, final int sparse) {
+        return LongStream.range(0, 200_000)
+                .filter(n -> (n / 1_000) % 3 != sparse || random.nextInt(4) == 0)
+                .toArray();
+    }
+
+    private static ColumnChanges lookup(final long[] left, final long[] right) {
+        Map<Long, Integer> rightPositions = new HashMap<>();
+        for (int r = 0; r < right.length; r++) {
+            rightPositions.put(right[r], r);
+        }
+
+        IntStream.Builder onlyLeft = IntStream.builder();
+        IntStream.Builder bothLeft = IntStream.builder();
+        IntStream.Builder bothRight = IntStream.builder();
+        Set<Long> paired = new HashSet<>();
+
+        for (int l = 0; l < left.length; l++) {
+            Integer r = rightPositions.get(left[l]);
+            if (r == null) {
+                onlyLeft.add(l);
+            } else {
+                bothLeft.add(l);
+                bothRight.add(r);
+                paired.add(left[l]);
+            }
+        }
+
+        int[] onlyRight = IntStream.range(0, right.length).filter(r -> !paired.contains(right[r])).toArray();
+
+        return new ColumnChanges(onlyLeft.build().toArray(), onlyRight, bothLeft.build().toArray(), bothRight.build().toArray());
+    }
+}
@@ -10,6 +10,7 @@ import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class DefaultMatchResolverTest {
 
@@ -187,4 +188,84 @@ class DefaultMatchResolverTest {
         );
 
     }
+
+    @Test
+    void should_reject_duplicate_right_identifiers() {
+        // setup
+        List<String> original = List.of("one");
+
+        List<String> incoming = List.of("one", "two", "one");
+
+        //  execute
+        DefaultMatchResolver<String, String, String> resolver = new DefaultMatchResolver<>(Function.identity(), Function.identity());
+
+        //  verify
+        assertThatThrownBy(() -> resolver.resolve(original, incoming).toList())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void should_reject_duplicate_identifiers_of_either_side_resolving_one_kind_of_match() {
+        // setup
+        List<String> fewer = List.of("x0", "x1", "x2");
+
+        List<String> more = List.of("y", "y", "x0", "z", "w");
+
+        //  execute
+        DefaultMatchResolver<String, String, String> resolver = new DefaultMatchResolver<>(Function.identity(), Function.identity());
+
+        //  verify
+        assertThatThrownBy(() -> resolver.resolve(fewer, more).toList()).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> resolver.onlyRight(fewer, more).toList()).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> resolver.onlyLeft(fewer, more).toList()).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> resolver.both(fewer, more).toList()).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> resolver.onlyRight(more, fewer).toList()).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> resolver.onlyLeft(more, fewer).toList()).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> resolver.both(more, fewer).toList()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void should_return_only_right_values_indexing_either_side() {
+        // setup
+        List<String> fewer = List.of("one", "three");
+
+        List<String> more = List.of("one", "two", "three", "four");
+
+        //  execute
+        DefaultMatchResolver<String, String, String> resolver = new DefaultMatchResolver<>(Function.identity(), Function.identity());
+
+        //  verify
+        assertThat(resolver.onlyRight(fewer, more)).containsExactlyInAnyOrder("two", "four");
+        assertThat(resolver.onlyRight(more, fewer)).isEmpty();
+    }
+
+    @Test
+    void should_return_only_left_values_indexing_either_side() {
+        // setup
+        List<String> fewer = List.of("one", "three");
+
+        List<String> more = List.of("one", "two", "three", "four");
+
+        //  execute
+        DefaultMatchResolver<String, String, String> resolver = new DefaultMatchResolver<>(Function.identity(), Function.identity());
+
+        //  verify
+        assertThat(resolver.onlyLeft(more, fewer)).containsExactlyInAnyOrder("two", "four");
+        assertThat(resolver.onlyLeft(fewer, more)).isEmpty();
+    }
+
+    @Test
+    void should_return_both_matches_indexing_either_side() {
+        // setup
+        List<String> fewer = List.of("one", "three", "five");
+
+        List<String> more = List.of("one", "two", "three", "four");
+
+        //  execute
+        DefaultMatchResolver<String, String, String> resolver = new DefaultMatchResolver<>(Function.identity(), Function.identity());
+
+        //  verify
+        assertThat(resolver.both(fewer, more)).containsExactlyInAnyOrder(new Both<>("one", "one"), new Both<>("three", "three"));
+        assertThat(resolver.both(more, fewer)).containsExactlyInAnyOrder(new Both<>("one", "one"), new Both<>("three", "three"));
+    }
 }
\ No newline at end of file
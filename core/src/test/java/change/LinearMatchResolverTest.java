@@ -0,0 +1,68 @@
+package change;
+
+import change.Match.Both;
+import change.Match.OnlyLeft;
+import change.Match.OnlyRight;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LinearMatchResolverTest {
+
+    @Test
+    void should_return_only_left_only_right_and_both_matches() {
+        // setup
+        List<String> original = List.of("one", "two", "three");
+
+        List<String> incoming = List.of("three", "four", "one");
+
+        //  execute
+        LinearMatchResolver<String, String, String> resolver = new LinearMatchResolver<>(Function.identity(), Function.identity());
+
+        Stream<Match<String, String>> actual = resolver.resolve(original, incoming);
+
+        //  verify
+        assertThat(actual).containsExactlyInAnyOrder(
+                new Both<>("one", "one"),
+                new OnlyLeft<>("two"),
+                new Both<>("three", "three"),
+                new OnlyRight<>("four")
+        );
+    }
+
+    @Test
+    void should_reject_duplicate_identifiers() {
+        // setup
+        List<String> original = List.of("one", "one");
+
+        List<String> incoming = List.of("one");
+
+        //  execute
+        LinearMatchResolver<String, String, String> resolver = new LinearMatchResolver<>(Function.identity(), Function.identity());
+
+        //  verify
+        assertThatThrownBy(() -> resolver.resolve(original, incoming))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void should_return_each_kind_of_match_alone() {
+        // setup
+        List<String> original = List.of("one", "two", "three");
+
+        List<String> incoming = List.of("three", "four", "one");
+
+        //  execute
+        LinearMatchResolver<String, String, String> resolver = new LinearMatchResolver<>(Function.identity(), Function.identity());
+
+        //  verify
+        assertThat(resolver.onlyRight(original, incoming)).containsExactly("four");
+        assertThat(resolver.onlyLeft(original, incoming)).containsExactly("two");
+        assertThat(resolver.both(original, incoming)).containsExactly(new Both<>("three", "three"), new Both<>("one", "one"));
+    }
+}
@@ -0,0 +1,136 @@
+package change;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchPublisherTest {
+
+    @Test
+    void should_publish_matches_only_as_requested() {
+        // setup
+        AtomicInteger resolved = new AtomicInteger();
+
+        MatchPublisher<String, String> publisher = new MatchPublisher<>(() -> Stream.<Match<String, String>>of(
+                new Match.OnlyRight<>("one"),
+                new Match.Both<>("two", "two"),
+                new Match.OnlyLeft<>("three")
+        ).peek(match -> resolved.incrementAndGet()));
+
+        RecordingSubscriber<Match<String, String>> subscriber = new RecordingSubscriber<>();
+
+        //  execute
+        publisher.subscribe(subscriber);
+
+        //  verify
+        assertThat(resolved).hasValue(0);
+
+        subscriber.subscription.request(2);
+
+        assertThat(subscriber.received).containsExactly(new Match.OnlyRight<>("one"), new Match.Both<>("two", "two"));
+        assertThat(resolved).hasValue(2);
+        assertThat(subscriber.completed).isFalse();
+
+        subscriber.subscription.request(5);
+
+        assertThat(subscriber.received).hasSize(3).endsWith(new Match.OnlyLeft<>("three"));
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    void should_stop_publishing_when_cancelled() {
+        // setup
+        DefaultMatchResolver<String, String, String> resolver = new DefaultMatchResolver<>(Function.identity(), Function.identity());
+
+        MatchPublisher<String, String> publisher = new MatchPublisher<>(() -> resolver.resolve(List.of("one", "two"), List.of("three", "four")));
+
+        RecordingSubscriber<Match<String, String>> subscriber = new RecordingSubscriber<>() {
+            @Override
+            public void onNext(final Match<String, String> item) {
+                super.onNext(item);
+                subscription.cancel();
+            }
+        };
+
+        //  execute
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        //  verify
+        assertThat(subscriber.received).hasSize(1);
+        assertThat(subscriber.completed).isFalse();
+        assertThat(subscriber.error).isNull();
+    }
+
+    @Test
+    void should_signal_error_for_non_positive_requests() {
+        // setup
+        MatchPublisher<String, String> publisher = new MatchPublisher<>(() -> Stream.of(new Match.OnlyRight<>("one")));
+
+        RecordingSubscriber<Match<String, String>> subscriber = new RecordingSubscriber<>();
+
+        //  execute
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(0);
+
+        //  verify
+        assertThat(subscriber.received).isEmpty();
+        assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_signal_error_when_resolution_fails() {
+        // setup
+        DefaultMatchResolver<String, String, String> resolver = new DefaultMatchResolver<>(Function.identity(), Function.identity());
+
+        MatchPublisher<String, String> publisher = new MatchPublisher<>(() -> resolver.resolve(List.of(), List.of("one", "one")));
+
+        RecordingSubscriber<Match<String, String>> subscriber = new RecordingSubscriber<>();
+
+        //  execute
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(10);
+
+        //  verify
+        assertThat(subscriber.received).containsExactly(new Match.OnlyRight<>("one"));
+        assertThat(subscriber.error).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+
+        final List<T> received = new ArrayList<>();
+
+        Flow.Subscription subscription;
+
+        Throwable error;
+
+        boolean completed;
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(final T item) {
+            received.add(item);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package change;
+
+import change.Match.Both;
+import change.Match.OnlyLeft;
+import change.Match.OnlyRight;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MergeMatchResolverTest {
+
+    @Test
+    void should_return_matches_in_ascending_order_of_identifier() {
+        // setup
+        List<Tuple<Integer, String>> original = List.of(new Tuple<>(1, "one"), new Tuple<>(2, "two"), new Tuple<>(4, "four"));
+
+        List<Tuple<Integer, String>> incoming = List.of(new Tuple<>(2, "too"), new Tuple<>(3, "three"), new Tuple<>(4, "four"), new Tuple<>(5, "five"));
+
+        //  execute
+        MergeMatchResolver<Tuple<Integer, String>, Tuple<Integer, String>, Integer> resolver = new MergeMatchResolver<>(Tuple::x, Tuple::x);
+
+        Stream<Match<Tuple<Integer, String>, Tuple<Integer, String>>> actual = resolver.resolve(original, incoming);
+
+        //  verify
+        assertThat(actual).containsExactly(
+                new OnlyLeft<>(new Tuple<>(1, "one")),
+                new Both<>(new Tuple<>(2, "two"), new Tuple<>(2, "too")),
+                new OnlyRight<>(new Tuple<>(3, "three")),
+                new Both<>(new Tuple<>(4, "four"), new Tuple<>(4, "four")),
+                new OnlyRight<>(new Tuple<>(5, "five"))
+        );
+    }
+
+    @Test
+    void should_merge_sorted_sets() {
+        // setup
+        TreeSet<String> original = new TreeSet<>(List.of("one", "two", "three"));
+
+        TreeSet<String> incoming = new TreeSet<>(List.of("four", "one"));
+
+        //  execute
+        MergeMatchResolver<String, String, String> resolver = new MergeMatchResolver<>(Function.identity(), Function.identity());
+
+        Stream<Match<String, String>> actual = resolver.resolve(original, incoming);
+
+        //  verify
+        assertThat(actual).containsExactly(
+                new OnlyRight<>("four"),
+                new Both<>("one", "one"),
+                new OnlyLeft<>("three"),
+                new OnlyLeft<>("two")
+        );
+    }
+
+    @Test
+    void should_reject_values_not_in_ascending_order_of_identifier() {
+        // setup
+        List<Integer> original = List.of(1, 3, 2);
+
+        List<Integer> incoming = List.of(1, 2, 3);
+
+        //  execute
+        MergeMatchResolver<Integer, Integer, Integer> resolver = new MergeMatchResolver<>(Function.identity(), Function.identity());
+
+        //  verify
+        assertThatThrownBy(() -> resolver.resolve(original, incoming).toList())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_reject_duplicate_identifiers() {
+        // setup
+        List<Integer> original = List.of(1, 2);
+
+        List<Integer> incoming = List.of(1, 1, 2);
+
+        //  execute
+        MergeMatchResolver<Integer, Integer, Integer> resolver = new MergeMatchResolver<>(Function.identity(), Function.identity());
+
+        //  verify
+        assertThatThrownBy(() -> resolver.resolve(original, incoming).toList())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void should_return_each_kind_of_match_alone() {
+        // setup
+        List<Tuple<Integer, String>> original = List.of(new Tuple<>(1, "one"), new Tuple<>(2, "two"), new Tuple<>(4, "four"));
+
+        List<Tuple<Integer, String>> incoming = List.of(new Tuple<>(2, "too"), new Tuple<>(3, "three"), new Tuple<>(4, "four"), new Tuple<>(5, "five"));
+
+        //  execute
+        MergeMatchResolver<Tuple<Integer, String>, Tuple<Integer, String>, Integer> resolver = new MergeMatchResolver<>(Tuple::x, Tuple::x);
+
+        //  verify
+        assertThat(resolver.onlyRight(original, incoming)).containsExactly(new Tuple<>(3, "three"), new Tuple<>(5, "five"));
+        assertThat(resolver.onlyLeft(original, incoming)).containsExactly(new Tuple<>(1, "one"));
+        assertThat(resolver.both(original, incoming)).containsExactly(
+                new Both<>(new Tuple<>(2, "two"), new Tuple<>(2, "too")),
+                new Both<>(new Tuple<>(4, "four"), new Tuple<>(4, "four"))
+        );
+    }
+
+    @Test
+    void should_stop_walking_once_no_more_matches_of_the_kind_remain() {
+        // setup
+        List<Integer> original = List.of(1, 2);
+
+        List<Integer> incoming = IntStream.range(0, 100_000).boxed().toList();
+
+        AtomicInteger identified = new AtomicInteger();
+
+        //  execute
+        MergeMatchResolver<Integer, Integer, Integer> resolver = new MergeMatchResolver<>(Function.identity(), value -> {
+            identified.incrementAndGet();
+            return value;
+        });
+
+        //  verify
+        assertThat(resolver.onlyLeft(original, incoming)).isEmpty();
+        assertThat(identified.get()).isLessThanOrEqualTo(4);
+
+        identified.set(0);
+        assertThat(resolver.both(original, incoming)).hasSize(2);
+        assertThat(identified.get()).isLessThanOrEqualTo(4);
+    }
+}
@@ -0,0 +1,87 @@
+package change;
+
+import change.Match.Both;
+import change.Match.OnlyLeft;
+import change.Match.OnlyRight;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelMatchResolverTest {
+
+    @Test
+    void should_return_the_same_matches_as_the_default_resolver() {
+        // setup
+        List<Integer> original = IntStream.range(0, 100_000).filter(n -> n % 2 == 0).boxed().toList();
+
+        List<Integer> incoming = IntStream.range(0, 100_000).filter(n -> n % 3 == 0).boxed().toList();
+
+        //  execute
+        ParallelMatchResolver<Integer, Integer, Integer> resolver = new ParallelMatchResolver<>(Function.identity(), Function.identity());
+
+        List<Match<Integer, Integer>> actual = resolver.resolve(original, incoming).toList();
+
+        //  verify
+        List<Match<Integer, Integer>> expected = new DefaultMatchResolver<Integer, Integer, Integer>(Function.identity(), Function.identity())
+                .resolve(original, incoming)
+                .toList();
+
+        assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(actual).filteredOn(Both.class::isInstance).hasSize(16_667);
+        assertThat(actual).filteredOn(OnlyLeft.class::isInstance).hasSize(33_333);
+        assertThat(actual).filteredOn(OnlyRight.class::isInstance).hasSize(16_667);
+    }
+
+    @Test
+    void should_reject_duplicate_identifiers() {
+        // setup
+        List<String> original = List.of("one", "two", "one");
+
+        List<String> incoming = List.of("one");
+
+        //  execute
+        ParallelMatchResolver<String, String, String> resolver = new ParallelMatchResolver<>(Function.identity(), Function.identity());
+
+        //  verify
+        assertThatThrownBy(() -> resolver.resolve(original, incoming))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void should_pair_null_identifiers_like_the_default_resolver() {
+        // setup
+        List<Tuple<Integer, String>> original = List.of(new Tuple<>(null, "old"), new Tuple<>(1, "one"));
+
+        List<Tuple<Integer, String>> incoming = List.of(new Tuple<>(null, "new"), new Tuple<>(2, "two"));
+
+        //  execute
+        ParallelMatchResolver<Tuple<Integer, String>, Tuple<Integer, String>, Integer> resolver = new ParallelMatchResolver<>(Tuple::x, Tuple::x);
+
+        List<Match<Tuple<Integer, String>, Tuple<Integer, String>>> actual = resolver.resolve(original, incoming).toList();
+
+        //  verify
+        assertThat(actual).containsExactlyInAnyOrder(
+                new Both<>(new Tuple<>(null, "old"), new Tuple<>(null, "new")),
+                new OnlyRight<>(new Tuple<>(2, "two")),
+                new OnlyLeft<>(new Tuple<>(1, "one"))
+        );
+    }
+
+    @Test
+    void should_reject_duplicate_null_identifiers() {
+        // setup
+        List<Tuple<Integer, String>> original = List.of(new Tuple<>(null, "one"), new Tuple<>(null, "two"));
+
+        //  execute
+        ParallelMatchResolver<Tuple<Integer, String>, Tuple<Integer, String>, Integer> resolver = new ParallelMatchResolver<>(Tuple::x, Tuple::x);
+
+        //  verify
+        assertThatThrownBy(() -> resolver.resolve(original, List.of()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
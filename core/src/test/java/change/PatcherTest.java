@@ -0,0 +1,188 @@
+package change;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class PatcherTest {
+
+    @Test
+    void should_bind_properties_readable_from_right_and_writable_to_left() {
+        //  execute
+        Patcher<Entity, Dto> patcher = Patcher.of(Entity.class, Dto.class);
+
+        //  verify
+        assertThat(patcher.properties()).containsExactly("active", "count", "name");
+        assertThat(Patcher.of(Entity.class, Dto.class)).isSameAs(patcher);
+    }
+
+    @Test
+    void should_copy_only_differing_properties() {
+        // setup
+        Entity entity = new Entity(1, "one", 1, false);
+
+        Dto dto = new Dto(1, "one", 2, true);
+
+        Patcher<Entity, Dto> patcher = Patcher.of(Entity.class, Dto.class);
+
+        //  execute
+        boolean actual = patcher.patch(entity, dto);
+
+        //  verify
+        assertThat(actual).isTrue();
+        assertAll(
+                () -> assertThat(entity.getId()).isEqualTo(1),
+                () -> assertThat(entity.getName()).isEqualTo("one"),
+                () -> assertThat(entity.getCount()).isEqualTo(2),
+                () -> assertThat(entity.isActive()).isTrue(),
+                () -> assertThat(entity.writes).isEqualTo(2)
+        );
+        assertThat(patcher.differs(entity, dto)).isFalse();
+        assertThat(patcher.patch(entity, dto)).isFalse();
+    }
+
+    @Test
+    void should_patch_altered_matches_in_parallel() {
+        // setup
+        List<Entity> original = IntStream.range(0, 10_000)
+                .mapToObj(n -> new Entity(n, String.valueOf(n), n, false))
+                .toList();
+
+        List<Dto> incoming = IntStream.range(0, 10_000)
+                .mapToObj(n -> new Dto(n, n % 2 == 0 ? String.valueOf(n) : "odd", n, false))
+                .toList();
+
+        Patcher<Entity, Dto> patcher = Patcher.of(Entity.class, Dto.class);
+
+        Changes<Entity, Dto> changes = ChangeResolver.<Entity, Dto, Integer>ofDifferingTypes(Entity::getId, Dto::id)
+                .resolve(original, incoming);
+
+        //  execute
+        long actual = patcher.patchAll(changes.altered(patcher::differs).parallel());
+
+        //  verify
+        assertThat(actual).isEqualTo(5_000);
+        assertThat(original).filteredOn(entity -> entity.getName().equals("odd")).hasSize(5_000);
+    }
+
+    @Test
+    void should_patch_types_not_visible_from_the_patcher_class_loader() throws Exception {
+        // setup
+        ClassLoader isolated = new IsolatingClassLoader(getClass().getClassLoader(), Set.of(Entity.class.getName(), Dto.class.getName()));
+
+        Class<?> entityType = isolated.loadClass(Entity.class.getName());
+        Class<?> dtoType = isolated.loadClass(Dto.class.getName());
+
+        Object entity = entityType.getConstructors()[0].newInstance(1, "one", 1, false);
+        Object dto = dtoType.getConstructors()[0].newInstance(1, "uno", 1, true);
+
+        //  execute
+        boolean actual = patch(entityType, dtoType, entity, dto);
+
+        //  verify
+        assertThat(entityType).isNotEqualTo(Entity.class);
+        assertThat(actual).isTrue();
+        assertThat(entityType.getMethod("getName").invoke(entity)).isEqualTo("uno");
+        assertThat(entityType.getMethod("isActive").invoke(entity)).isEqualTo(true);
+    }
+
+    private static <L, R> boolean patch(final Class<L> leftType, final Class<R> rightType, final Object left, final Object right) {
+        return Patcher.of(leftType, rightType).patch(leftType.cast(left), rightType.cast(right));
+    }
+
+    /**
+     * Defines its own copies of the {@code isolated} classes, as a child class loader (e.g. of an application server)
+     * would.
+     */
+    private static class IsolatingClassLoader extends ClassLoader {
+
+        private final Set<String> isolated;
+
+        IsolatingClassLoader(final ClassLoader parent, final Set<String> isolated) {
+            super(parent);
+            this.isolated = isolated;
+        }
+
+        @Override
+        protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+            if (!isolated.contains(name)) {
+                return super.loadClass(name, resolve);
+            }
+
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded != null) {
+                    return loaded;
+                }
+
+                try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                    byte[] bytes = in.readAllBytes();
+                    return defineClass(name, bytes, 0, bytes.length);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+        }
+    }
+
+    public record Dto(int id, String name, int count, boolean active) {
+    }
+
+    public static class Entity {
+
+        private final Integer id;
+
+        private String name;
+
+        private Integer count;
+
+        private boolean active;
+
+        private int writes;
+
+        public Entity(final Integer id, final String name, final Integer count, final boolean active) {
+            this.id = id;
+            this.name = name;
+            this.count = count;
+            this.active = active;
+        }
+
+        public Integer getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(final String name) {
+            this.writes++;
+            this.name = name;
+        }
+
+        public Integer getCount() {
+            return count;
+        }
+
+        public void setCount(final Integer count) {
+            this.writes++;
+            this.count = count;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(final boolean active) {
+            this.writes++;
+            this.active = active;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package change;
+
+import change.ThreeWayMatch.Outcome;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ThreeWayResolverTest {
+
+    @Test
+    void should_classify_each_identifier_by_how_each_state_changed_it() {
+        // setup
+        List<Tuple<Integer, String>> base = List.of(
+                new Tuple<>(1, "one"), new Tuple<>(2, "two"), new Tuple<>(3, "three"),
+                new Tuple<>(4, "four"), new Tuple<>(5, "five"), new Tuple<>(6, "six")
+        );
+
+        List<Tuple<Integer, String>> ours = List.of(
+                new Tuple<>(1, "one"), new Tuple<>(2, "TWO"), new Tuple<>(3, "three"),
+                new Tuple<>(4, "FOUR"), new Tuple<>(5, "FIVE"), new Tuple<>(7, "seven")
+        );
+
+        List<Tuple<Integer, String>> theirs = List.of(
+                new Tuple<>(1, "one"), new Tuple<>(2, "two"), new Tuple<>(3, "THREE"),
+                new Tuple<>(4, "FOUR"), new Tuple<>(5, "5"), new Tuple<>(6, "six")
+        );
+
+        //  execute
+        ThreeWayChanges<Tuple<Integer, String>> changes = ThreeWayResolver.<Tuple<Integer, String>, Integer>of(Tuple::x)
+                .resolve(base, ours, theirs);
+
+        //  verify
+        assertThat(changes.matches(Outcome.UNCHANGED)).extracting(ThreeWayMatch::base).containsExactly(new Tuple<>(1, "one"));
+        assertThat(changes.matches(Outcome.OURS)).extracting(ThreeWayMatch::merged)
+                .containsExactlyInAnyOrder(new Tuple<>(2, "TWO"), null, new Tuple<>(7, "seven"));
+        assertThat(changes.matches(Outcome.THEIRS)).extracting(ThreeWayMatch::merged).containsExactly(new Tuple<>(3, "THREE"));
+        assertThat(changes.matches(Outcome.BOTH)).extracting(ThreeWayMatch::merged).containsExactly(new Tuple<>(4, "FOUR"));
+        assertThat(changes.conflicts()).containsExactly(
+                new ThreeWayMatch<>(Outcome.CONFLICT, new Tuple<>(5, "five"), new Tuple<>(5, "FIVE"), new Tuple<>(5, "5"))
+        );
+        assertThat(changes.hasConflicts()).isTrue();
+    }
+
+    @Test
+    void should_merge_both_states_without_conflicts() {
+        // setup
+        List<Tuple<Integer, String>> base = List.of(new Tuple<>(1, "one"), new Tuple<>(2, "two"), new Tuple<>(3, "three"));
+
+        List<Tuple<Integer, String>> ours = List.of(new Tuple<>(1, "ONE"), new Tuple<>(2, "two"));
+
+        List<Tuple<Integer, String>> theirs = List.of(new Tuple<>(1, "one"), new Tuple<>(2, "two"), new Tuple<>(3, "three"), new Tuple<>(4, "four"));
+
+        //  execute
+        ThreeWayChanges<Tuple<Integer, String>> changes = ThreeWayResolver.<Tuple<Integer, String>, Integer>of(Tuple::x)
+                .resolve(base, ours, theirs);
+
+        //  verify
+        assertThat(changes.hasConflicts()).isFalse();
+        assertThat(changes.merged()).containsExactlyInAnyOrder(new Tuple<>(1, "ONE"), new Tuple<>(2, "two"), new Tuple<>(4, "four"));
+    }
+
+    @Test
+    void should_treat_removal_of_an_altered_value_as_a_conflict() {
+        // setup
+        List<Tuple<Integer, String>> base = List.of(new Tuple<>(1, "one"));
+
+        List<Tuple<Integer, String>> ours = List.of();
+
+        List<Tuple<Integer, String>> theirs = List.of(new Tuple<>(1, "ONE"));
+
+        //  execute
+        ThreeWayChanges<Tuple<Integer, String>> changes = ThreeWayResolver.<Tuple<Integer, String>, Integer>of(Tuple::x)
+                .resolve(base, ours, theirs);
+
+        //  verify
+        assertThat(changes.hasConflicts()).isTrue();
+        assertThatThrownBy(() -> changes.merged().toList()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void should_use_the_provided_change_decider() {
+        // setup
+        List<Tuple<Integer, String>> base = List.of(new Tuple<>(1, "one"));
+
+        List<Tuple<Integer, String>> ours = List.of(new Tuple<>(1, "ONE"));
+
+        List<Tuple<Integer, String>> theirs = List.of(new Tuple<>(1, "One"));
+
+        //  execute
+        ThreeWayChanges<Tuple<Integer, String>> changes = ThreeWayResolver.<Tuple<Integer, String>, Integer>of(Tuple::x)
+                .resolve(base, ours, theirs, (x, y) -> !Objects.equals(x.y().toLowerCase(), y.y().toLowerCase()));
+
+        //  verify
+        assertThat(changes.matches()).extracting(ThreeWayMatch::outcome).containsExactly(Outcome.UNCHANGED);
+    }
+
+    @Test
+    void should_reject_duplicate_identifiers() {
+        // setup
+        List<String> base = List.of("one");
+
+        List<String> ours = List.of("one", "one");
+
+        //  execute
+        ThreeWayResolver<String, String> resolver = ThreeWayResolver.of(value -> value);
+
+        //  verify
+        assertThatThrownBy(() -> resolver.resolve(base, ours, base)).isInstanceOf(IllegalStateException.class);
+    }
+}